@@ -0,0 +1,55 @@
+package com.portfolio.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QBoardPostCount is a Querydsl query type for BoardPostCount
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QBoardPostCount extends EntityPathBase<BoardPostCount> {
+
+    private static final long serialVersionUID = 752274944L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QBoardPostCount boardPostCount = new QBoardPostCount("boardPostCount");
+
+    public final QBoard board;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Long> postCount = createNumber("postCount", Long.class);
+
+    public final NumberPath<Integer> stripe = createNumber("stripe", Integer.class);
+
+    public QBoardPostCount(String variable) {
+        this(BoardPostCount.class, forVariable(variable), INITS);
+    }
+
+    public QBoardPostCount(Path<? extends BoardPostCount> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QBoardPostCount(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QBoardPostCount(PathMetadata metadata, PathInits inits) {
+        this(BoardPostCount.class, metadata, inits);
+    }
+
+    public QBoardPostCount(Class<? extends BoardPostCount> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.board = inits.isInitialized("board") ? new QBoard(forProperty("board")) : null;
+    }
+
+}
+
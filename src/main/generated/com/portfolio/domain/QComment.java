@@ -44,6 +44,8 @@ public class QComment extends EntityPathBase<Comment> {
 
     public final QPost post;
 
+    public final NumberPath<Integer> replyCount = createNumber("replyCount", Integer.class);
+
     public QComment(String variable) {
         this(Comment.class, forVariable(variable), INITS);
     }
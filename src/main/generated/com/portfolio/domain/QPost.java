@@ -26,6 +26,8 @@ public class QPost extends EntityPathBase<Post> {
 
     public final QBoard board;
 
+    public final NumberPath<Integer> commentCount = createNumber("commentCount", Integer.class);
+
     public final ListPath<Comment, QComment> comments = this.<Comment, QComment>createList("comments", Comment.class, QComment.class, PathInits.DIRECT2);
 
     public final BooleanPath commentsAllowed = createBoolean("commentsAllowed");
@@ -42,6 +44,8 @@ public class QPost extends EntityPathBase<Post> {
     //inherited
     public final DateTimePath<java.time.LocalDateTime> lastModifiedDate = _super.lastModifiedDate;
 
+    public final NumberPath<Integer> likeCount = createNumber("likeCount", Integer.class);
+
     public final ListPath<Like, QLike> likes = this.<Like, QLike>createList("likes", Like.class, QLike.class, PathInits.DIRECT2);
 
     public final QMember member;
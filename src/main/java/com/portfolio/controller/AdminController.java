@@ -5,12 +5,17 @@ import com.portfolio.request.comment.DeleteComment;
 import com.portfolio.request.common.Page;
 import com.portfolio.request.post.DeletePost;
 import com.portfolio.request.validator.board.BoardCreateValidator;
-import com.portfolio.request.validator.comment.DeleteCommentValidator;
-import com.portfolio.request.validator.post.DeletePostValidator;
+import com.portfolio.response.comment.CommentStreamStatsResponse;
+import com.portfolio.response.like.LikedPostIndexStatsResponse;
 import com.portfolio.response.member.MemberProfileForAdminResponse;
+import com.portfolio.response.post.PostListCacheStatsResponse;
 import com.portfolio.service.BoardService;
 import com.portfolio.service.CommentService;
+import com.portfolio.service.CommentStream;
+import com.portfolio.service.LikeService;
+import com.portfolio.service.LikedPostIndex;
 import com.portfolio.service.MemberService;
+import com.portfolio.service.PostListCache;
 import com.portfolio.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
@@ -31,11 +36,15 @@ public class AdminController {
 
     private final CommentService commentService;
 
-    private final BoardCreateValidator boardCreateValidator;
+    private final LikeService likeService;
+
+    private final PostListCache postListCache;
 
-    private final DeletePostValidator deletePostValidator;
+    private final CommentStream commentStream;
 
-    private final DeleteCommentValidator deleteCommentValidator;
+    private final LikedPostIndex likedPostIndex;
+
+    private final BoardCreateValidator boardCreateValidator;
 
 
 
@@ -44,16 +53,6 @@ public class AdminController {
         webDataBinder.addValidators(boardCreateValidator);
     }
 
-    @InitBinder("deletePost")
-    public void initBinder2(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(deletePostValidator);
-    }
-
-    @InitBinder("deleteComment")
-    public void initBinder3(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(deleteCommentValidator);
-    }
-
 
 
     /*** 게시판 생성 */
@@ -62,6 +61,24 @@ public class AdminController {
         boardService.create(request);
     }
 
+    /** 글 목록 캐시 현황 조회 (적중률, 제거된 페이지 수) */
+    @GetMapping("/admin/cache/posts")
+    public PostListCacheStatsResponse postListCacheStats() {
+        return postListCache.getStats();
+    }
+
+    /** 댓글 실시간 전달 현황 조회 (구독자 수, 버려진 이벤트 수) */
+    @GetMapping("/admin/streams/comments")
+    public CommentStreamStatsResponse commentStreamStats() {
+        return commentStream.getStats();
+    }
+
+    /** 회원별 좋아요 누른 글 비트맵 현황 조회 (보관중인 회원 수, 메모리 크기) */
+    @GetMapping("/admin/cache/likes")
+    public LikedPostIndexStatsResponse likedPostIndexStats() {
+        return likedPostIndex.getStats();
+    }
+
     /**
      * 회원 조회 (탈퇴한 회원 포함)
      */
@@ -86,6 +103,12 @@ public class AdminController {
         postService.delete(request);
     }
 
+    // 글에 달린 좋아요 일괄 삭제 (삭제된 글에 남은 좋아요 정리)
+    @DeleteMapping("/admin/posts/{postId}/likes")
+    public void purgeLikesByAdmin(@PathVariable Long postId) {
+        likeService.purgeLikes(postId);
+    }
+
     // 회원 강퇴
     @DeleteMapping("/admin/members/{username}")
     public void deleteMemberByAdmin(@PathVariable String username) {
@@ -3,17 +3,25 @@ package com.portfolio.controller;
 import com.portfolio.request.comment.*;
 import com.portfolio.request.common.Page;
 import com.portfolio.request.validator.comment.*;
+import com.portfolio.response.comment.ChildCommentResponse;
 import com.portfolio.response.comment.MyCommentResponse;
 import com.portfolio.response.comment.PostCommentResponse;
+import com.portfolio.response.common.CursorResponse;
+import com.portfolio.service.CommentBatchWriter;
 import com.portfolio.service.CommentService;
+import com.portfolio.service.CommentStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 import static com.portfolio.repository.util.MemberUtil.validateUsername;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,15 +29,17 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    private final CommentStream commentStream;
+
+    private final CommentBatchWriter commentBatchWriter;
+
     private final CreateCommentValidator createCommentValidator;
 
     private final CreateChildCommentValidator createChildCommentValidator;
 
     private final SearchCommentsInPostValidator searchCommentsInPostValidator;
 
-    private final EditCommentValidator editCommentValidator;
-
-    private final DeleteCommentValidator deleteCommentValidator;
+    private final SearchRepliesValidator searchRepliesValidator;
 
     @InitBinder("createComment")
     public void initBinder1(WebDataBinder webDataBinder) {
@@ -46,20 +56,19 @@ public class CommentController {
         webDataBinder.addValidators(searchCommentsInPostValidator);
     }
 
-    @InitBinder("editComment")
-    public void initBinder4(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(editCommentValidator);
-    }
-
-    @InitBinder("deleteComment")
-    public void initBinder5(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(deleteCommentValidator);
+    @InitBinder("searchReplies")
+    public void initBinder6(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(searchRepliesValidator);
     }
 
     /** 댓글 작성 */
-    //단건 작성
+    //단건 작성 (comment.write-batch.enabled 가 true 이면 다른 작성 요청들과 모아서 한번에 저장, CommentBatchWriter)
     @PostMapping("/comments")
     public void writeComment(@Validated @RequestBody CreateComment request) {
+        if (commentBatchWriter.isEnabled()) {
+            commentBatchWriter.write(request);
+            return;
+        }
         commentService.writeComment(request);
     }
 
@@ -93,6 +102,28 @@ public class CommentController {
         return commentService.findCommentsInPost(request);
     }
 
+    //특정 글에 작성된 댓글과 대댓글 목록 커서 기반 조회 (afterId 파라미터가 있는 경우)
+    /** 응답의 nextCursor 를 다음 요청의 afterId 로 전달하면 이어서 조회됨 (댓글마다 대댓글은 일부만 포함) */
+    @GetMapping(value = "/comments", params = "afterId")
+    public CursorResponse<PostCommentResponse> searchCommentsInPostByCursor(@Validated SearchCommentsInPost request) {
+        return commentService.findCommentsInPostByCursor(request);
+    }
+
+    //특정 글에 달린 댓글의 작성, 수정, 삭제 이벤트 실시간 구독 (Server-Sent Events)
+    /** 새 댓글을 확인하기 위해 댓글 목록을 반복 조회하는 대신 사용. 연결이 끊기면 댓글 목록을 다시 조회한 후 재구독 */
+    @GetMapping(value = "/comments/stream", produces = TEXT_EVENT_STREAM_VALUE)
+    public void streamComments(@Validated SearchCommentsInPost request, HttpServletRequest servletRequest,
+                               HttpServletResponse servletResponse) throws IOException {
+        commentStream.subscribe(request.getId(), servletRequest, servletResponse);
+    }
+
+    //특정 댓글에 달린 대댓글 커서 기반 조회
+    /** 댓글 목록 응답의 nextReplyCursor 를 afterId 로 전달하면 나머지 대댓글을 이어서 조회 */
+    @GetMapping("/comments/replies")
+    public CursorResponse<ChildCommentResponse> searchReplies(@Validated SearchReplies request) {
+        return commentService.findReplies(request);
+    }
+
 
     // 내가 작성한 댓글과 대댓글  페이징 조회 (다른 회원이 조회 시도시 인가 예외 발생)
     // 댓글이 작성된 글이 삭제된 경우에도 댓글 내용은 조회 가능
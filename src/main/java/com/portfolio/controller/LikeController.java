@@ -2,44 +2,49 @@ package com.portfolio.controller;
 
 import com.portfolio.request.like.CancelLike;
 import com.portfolio.request.like.CreateLike;
+import com.portfolio.request.like.SearchPostLikes;
 import com.portfolio.request.like.SearchSinglePostLike;
-import com.portfolio.request.validator.like.CreateLikeValidator;
-import com.portfolio.request.validator.like.CancelLikeValidator;
+import com.portfolio.request.validator.like.SearchPostLikesValidator;
 import com.portfolio.request.validator.like.SearchSinglePostLikeValidator;
+import com.portfolio.response.like.PostLikeStatusResponse;
 import com.portfolio.response.like.SinglePostLikeResponse;
 import com.portfolio.service.LikeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.COOKIE;
+
 @RestController
 @RequiredArgsConstructor
 public class LikeController {
 
-    private final LikeService likeService;
-
-    private final CreateLikeValidator createLikeValidator;
+    //여러 글의 좋아요 일괄 조회 응답을 브라우저에 캐싱하는 시간
+    public static final long LIKE_STATUS_MAX_AGE_SECONDS = 5;
 
-    private final CancelLikeValidator cancelLikeValidator;
+    private final LikeService likeService;
 
     private final SearchSinglePostLikeValidator searchSinglePostLikeValidator;
 
-    @InitBinder("createLike")
-    public void initBinder(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(createLikeValidator);
-    }
-
-    @InitBinder("cancelLike")
-    public void initBinder2(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(cancelLikeValidator);
-    }
+    private final SearchPostLikesValidator searchPostLikesValidator;
 
     @InitBinder("searchSinglePostLike")
     public void initBinder3(WebDataBinder webDataBinder) {
         webDataBinder.addValidators(searchSinglePostLikeValidator);
     }
 
+    @InitBinder("searchPostLikes")
+    public void initBinder4(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(searchPostLikesValidator);
+    }
+
     //좋아요 등록
     @PostMapping("/likes")
     public void create(@Validated CreateLike request) {
@@ -57,4 +62,14 @@ public class LikeController {
     public SinglePostLikeResponse searchPostLikesInfo(@Validated SearchSinglePostLike request) {
         return likeService.searchPostLikes(request);
     }
+
+    //여러 글의 총 좋아요 갯수와 내가 좋아요를 눌렀는지 여부 한번에 조회 (최대 100개)
+    /** 회원마다 응답이 다르므로 브라우저에만 짧게 캐싱 (공유 캐시에는 저장되지 않음) */
+    @GetMapping("/likes/batch")
+    public ResponseEntity<List<PostLikeStatusResponse>> searchPostLikesBatch(@Validated SearchPostLikes request) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(LIKE_STATUS_MAX_AGE_SECONDS, SECONDS).cachePrivate())
+                .varyBy(COOKIE, AUTHORIZATION)
+                .body(likeService.searchPostLikes(request));
+    }
 }
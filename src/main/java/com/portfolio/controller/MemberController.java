@@ -1,8 +1,11 @@
 package com.portfolio.controller;
 
+import com.portfolio.request.member.RefreshToken;
 import com.portfolio.request.member.SignUp;
 import com.portfolio.request.validator.member.SignUpValidator;
 import com.portfolio.response.member.MemberBasicProfileResponse;
+import com.portfolio.response.member.TokenResponse;
+import com.portfolio.security.token.SignedTokenService;
 import com.portfolio.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +22,8 @@ public class MemberController {
 
     private final SignUpValidator signUpValidator;
 
+    private final SignedTokenService signedTokenService;
+
     @InitBinder("signUp")
     public void initBinder(WebDataBinder webDataBinder) {
         webDataBinder.addValidators(signUpValidator);
@@ -32,6 +37,14 @@ public class MemberController {
         memberService.saveNewMember(signUp);
     }
 
+    /**
+     * 토큰 재발급 (토큰 방식 로그인에서만 사용, 사용한 refresh 토큰은 폐기됨)
+     */
+    @PostMapping("/api/token/refresh")
+    public TokenResponse refreshToken(@RequestBody @Validated RefreshToken request) {
+        return signedTokenService.refresh(request.getRefreshToken());
+    }
+
     /**
      * 특정회원에 대한 기본 정보 조회
      */
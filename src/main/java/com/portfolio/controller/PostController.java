@@ -1,11 +1,17 @@
 package com.portfolio.controller;
 
+import com.portfolio.repository.board.BoardRegistry;
+import com.portfolio.request.common.Cursor;
 import com.portfolio.request.common.Page;
 import com.portfolio.request.post.*;
 import com.portfolio.request.validator.post.*;
+import com.portfolio.response.common.CursorResponse;
 import com.portfolio.response.post.*;
+import com.portfolio.service.PostListCache;
+import com.portfolio.service.PostListCache.CachedList;
 import com.portfolio.service.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
@@ -13,23 +19,28 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 import static com.portfolio.repository.util.MemberUtil.validateUsername;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @RestController
 @RequiredArgsConstructor
 public class PostController {
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    public static final String TOTAL_PAGES_HEADER = "X-Total-Pages";
+
     private final PostService postService;
 
+    private final PostListCache postListCache;
+
+    private final BoardRegistry boardRegistry;
+
     private final CreatePostValidator createPostValidator;
 
     private final SearchSinglePostValidator searchSinglePostValidator;
 
     private final SearchPostsByBoardValidator searchPostsByBoardValidator;
 
-    private final EditPostValidator editPostValidator;
-
-    private final DeletePostValidator deletePostValidator;
-
     @InitBinder("createPost")
     public void initBinder1(WebDataBinder webDataBinder) {
         webDataBinder.addValidators(createPostValidator);
@@ -45,16 +56,6 @@ public class PostController {
         webDataBinder.addValidators(searchPostsByBoardValidator);
     }
 
-    @InitBinder("editPost")
-    public void initBinder32(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(editPostValidator);
-    }
-
-    @InitBinder("deletePost")
-    public void initBinder4(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(deletePostValidator);
-    }
-
 
     /** 작성 기능 */
     //글 단건 작성
@@ -71,15 +72,34 @@ public class PostController {
     }
 
     //  전체글 페이징 조회
-    @GetMapping("/posts/view")
-    public List<PostResponse> postsList(Page request) {
-        return postService.findPosts(request);
+    /** 앞쪽 페이지는 PostListCache 에 총 글 수와 함께 캐싱된 응답을 반환, 총 글 수와 페이지 수는 응답 헤더로 전달 */
+    @GetMapping(value = "/posts/view", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> postsList(Page request) {
+        CachedList list = postListCache.getAllPosts(request.getPage(), () -> postService.findPosts(request),
+                postService::countPosts);
+        return withTotal(list, 20); //전체글 목록은 20개 단위로 페이징
+    }
+
+    //  전체글 커서 기반 조회 (beforeId 파라미터가 있는 경우)
+    /** 응답의 nextCursor 를 다음 요청의 beforeId 로 전달하면 이어서 조회됨 */
+    @GetMapping(value = "/posts/view", params = "beforeId")
+    public CursorResponse<PostResponse> postsListByCursor(Cursor request) {
+        return postService.findPostsByCursor(request);
     }
 
     // 특정 게시판에 작성된 글 페이징 조회
-    @GetMapping("/posts/board/view")
-    public List<BoardPostResponse> boardPosts(@Validated SearchPostsByBoard request) {
-        return postService.findPostsByBoard(request);
+    /** 앞쪽 페이지는 PostListCache 에 총 글 수와 함께 캐싱된 응답을 반환, 총 글 수와 페이지 수는 응답 헤더로 전달 */
+    @GetMapping(value = "/posts/board/view", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> boardPosts(@Validated SearchPostsByBoard request) {
+        CachedList list = postListCache.getBoardPosts(boardRegistry.getId(request.getBoard()), request.getPage(),
+                request.getSize(), () -> postService.findPostsByBoard(request), () -> postService.countPostsByBoard(request));
+        return withTotal(list, request.getSize());
+    }
+
+    // 특정 게시판에 작성된 글 커서 기반 조회 (beforeId 파라미터가 있는 경우)
+    @GetMapping(value = "/posts/board/view", params = "beforeId")
+    public CursorResponse<BoardPostResponse> boardPostsByCursor(@Validated SearchPostsByBoard request) {
+        return postService.findPostsByBoardByCursor(request);
     }
 
     //특정 회원이 작성한 글 페이징 조회
@@ -96,6 +116,14 @@ public class PostController {
         return postService.findPostsCommentedByMember(username, request);
     }
 
+    //특정 회원이 댓글단 글 커서 기반 조회 (beforeId 파라미터가 있는 경우)
+    /** beforeId 는 응답의 nextCursor (회원이 마지막으로 작성한 댓글 번호) */
+    @GetMapping(value = "/member/{username}/commentPosts", params = "beforeId")
+    public CursorResponse<MemberCommentPostResponse> findPostsCommentedByMemberByCursor(@PathVariable String username,
+                                                                                       Cursor request) {
+        return postService.findPostsCommentedByMemberByCursor(username, request);
+    }
+
     //내가 좋아요 누른 글 페이징 조회
      /** 해당 회원 본인만 확인 가능함. 타인이 조회 시도시 인가 예외 발생 */
     @GetMapping("/member/{username}/likes")
@@ -105,6 +133,16 @@ public class PostController {
     }
 
 
+    //목록 응답에 총 글 수, 총 페이지 수 헤더 추가
+    private ResponseEntity<byte[]> withTotal(CachedList list, int size) {
+        long total = list.getTotalCount();
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(total))
+                .header(TOTAL_PAGES_HEADER, String.valueOf((total + size - 1) / size))
+                .body(list.getBody());
+    }
+
+
     /** 수정 기능 */
     //글 단건 수정
     @PatchMapping("/posts")
@@ -119,4 +157,4 @@ public class PostController {
     public void delete(@Validated DeletePost request) {
         postService.delete(request);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
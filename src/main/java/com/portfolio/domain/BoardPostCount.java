@@ -0,0 +1,38 @@
+package com.portfolio.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static javax.persistence.FetchType.LAZY;
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시판의 글 수를 여러 행(stripe)에 나눠서 관리하는 Entity
+ * 글 작성, 삭제시 임의의 행 하나만 갱신하므로 같은 게시판에 동시에 글을 작성해도 한 행의 잠금을 기다리지 않음
+ * 게시판의 글 수는 모든 행의 합 (행마다의 값은 음수일 수 있음)
+ */
+@Entity
+@Getter
+//게시판마다 stripe 번호별로 한 행씩만 존재 (BoardPostCountRepository 가 INSERT ... ON CONFLICT 로 증감)
+@Table(indexes = {
+        @Index(name = "uk_board_post_count_stripe", columnList = "board_id, stripe", unique = true)
+})
+@NoArgsConstructor(access = PROTECTED)
+public class BoardPostCount {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "board_post_count_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "board_id")
+    private Board board;
+
+    private Integer stripe;
+
+    private Long postCount = 0L;
+}
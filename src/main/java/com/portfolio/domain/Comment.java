@@ -20,6 +20,11 @@ import static lombok.AccessLevel.PROTECTED;
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @SQLDelete(sql = "UPDATE comment SET is_enabled = false WHERE comment_id=?")
+@Table(indexes = {
+        @Index(name = "idx_comment_post_id", columnList = "post_id, parent_id"),
+        @Index(name = "idx_comment_parent_id", columnList = "parent_id"),
+        @Index(name = "idx_comment_member_id", columnList = "member_id, comment_id")
+})
 public class Comment extends BaseEntity{
 
     @Id
@@ -46,6 +51,9 @@ public class Comment extends BaseEntity{
 
     private Boolean isEnabled = true;
 
+    //Soft Delete 처리되지 않은 대댓글 수 (CommentService 에서만 증감)
+    private Integer replyCount = 0;
+
     @Builder
     public Comment(Post post, Member member,
                    Comment parentComment, String content) {
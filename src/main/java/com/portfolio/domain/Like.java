@@ -12,7 +12,11 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table(name = "likes")
+//회원은 글 하나에 좋아요를 한번만 누를수 있음 (동시에 요청해도 중복 저장되지 않도록 유니크 인덱스로 보장)
+@Table(name = "likes", indexes = {
+        @Index(name = "uk_likes_post_id", columnList = "post_id, member_id", unique = true),
+        @Index(name = "idx_likes_member_id", columnList = "member_id, like_id")
+})
 @NoArgsConstructor(access = PROTECTED)
 public class Like extends BaseEntity{
 
@@ -36,7 +36,8 @@ public class Post extends BaseEntity {
     @OneToMany(mappedBy = "post", cascade = PERSIST)
     private List<Comment> comments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "post", cascade = ALL, orphanRemoval = true)
+    //좋아요는 엔티티로 불러오지 않도록 cascade 하지 않음 (글 삭제시 LikeService 에서 DELETE 문으로 한번에 삭제)
+    @OneToMany(mappedBy = "post")
     private List<Like> likes = new ArrayList<>();
 
     @ManyToOne(fetch = LAZY)
@@ -47,6 +48,12 @@ public class Post extends BaseEntity {
 
     private Boolean isEnabled = true;
 
+    //Soft Delete 처리되지 않은 댓글과 대댓글 수 (CommentService 에서만 증감)
+    private Integer commentCount = 0;
+
+    //좋아요 수 (LikeService 에서만 증감)
+    private Integer likeCount = 0;
+
     @Builder
     public Post(String title, String content, Member member,
                 Boolean commentsAllowed, Board board) {
@@ -72,13 +79,4 @@ public class Post extends BaseEntity {
         this.content = postEditor.getContent();
         this.commentsAllowed = postEditor.getCommentsAllowed();
     }
-
-
-    /**
-     * 특정 글에 달려있는 삭제되지 않은 댓글수 조회
-     */
-    public static Integer loadCommentCount(Post post) {
-        return (int) post.getComments().stream()
-                .filter(c -> c.getIsEnabled() == true).count();
-    }
 }
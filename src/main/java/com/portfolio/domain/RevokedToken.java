@@ -0,0 +1,40 @@
+package com.portfolio.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 토큰 방식 로그인에서 폐기된 토큰 id 를 서버들이 공유하기 위한 Entity (RevokedTokenRepository 가 SQL 로 저장, 조회)
+ * 로그인, 재발급할 때마다 발급하는 access, refresh 토큰 한쌍의 id 또는 강퇴, 탈퇴된 회원의 "member:회원 번호" 를 저장하고
+ * 폐기된 토큰이 만료되는 시각(expiresAt)이 지나면 삭제함
+ */
+@Entity
+@Getter
+//같은 토큰 id 는 한번만 저장되므로 같은 refresh 토큰으로 동시에 재발급해도 하나만 성공, 다른 서버는 revoked_at 이후에 폐기된 id 만 조회
+@Table(indexes = {
+        @Index(name = "uk_revoked_token_token_id", columnList = "token_id", unique = true),
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at")
+})
+@NoArgsConstructor(access = PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "revoked_token_id")
+    private Long id;
+
+    @Column(name = "token_id", nullable = false)
+    private String tokenId;
+
+    //폐기, 만료 시각 (epoch 밀리초)
+    @Column(name = "revoked_at", nullable = false)
+    private Long revokedAt;
+
+    @Column(nullable = false)
+    private Long expiresAt;
+}
@@ -18,6 +18,10 @@ public class CustomBadRequestException extends DefaultException {
 
     public static final String DUPLICATED_LIKE = "이미 좋아요를 누른 글입니다.";
 
+    public static final String POST_IDS_NOT_PROVIDED = "조회할 글 번호를 입력해주세요.";
+
+    public static final String TOO_MANY_POST_IDS = "한번에 100개 이하의 글만 조회할수 있습니다.";
+
     public static final String INVALID_LOGIN_INFO = "아이디/이메일 또는 비밀번호를 잘못 입력했습니다.";
 
     public static final String UNREGISTERED_ACCOUNT = "탈퇴한 회원입니다";
@@ -0,0 +1,21 @@
+package com.portfolio.exception.custom;
+
+import com.portfolio.exception.DefaultException;
+
+public class ServiceUnavailableException extends DefaultException {
+
+    public static final String COMMENT_WRITE_BUSY = "댓글 작성 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요";
+
+    public static final String COMMENT_STREAM_BUSY = "실시간 댓글 구독자가 많아 연결하지 못했습니다. 잠시 후 다시 시도해주세요";
+
+    public static final String PASSWORD_HASH_BUSY = "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요";
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
@@ -0,0 +1,17 @@
+package com.portfolio.exception.custom;
+
+import com.portfolio.exception.DefaultException;
+
+public class TooManyRequestsException extends DefaultException {
+
+    public static final String TOO_MANY_LOGIN_ATTEMPTS = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요";
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 429;
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.repository.board;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시판의 글 수 조회, 증감용 Class (BoardPostCount)
+ * 글 목록 조회시 COUNT 쿼리 없이 총 글 수를 응답하기 위해 글 작성, 삭제시 SQL 한번으로 증감함
+ * 증감할 때마다 STRIPES 개의 행 중 하나를 골라 갱신하므로 게시판 행 하나에 잠금이 몰리지 않음
+ */
+@RequiredArgsConstructor
+@Repository
+public class BoardPostCountRepository {
+
+    //게시판마다 글 수를 나눠 담는 행의 수
+    public static final int STRIPES = 8;
+
+    private static final String ADD = "INSERT INTO board_post_count (board_id, stripe, post_count) VALUES (?, ?, ?) " +
+            "ON CONFLICT (board_id, stripe) DO UPDATE SET post_count = board_post_count.post_count + EXCLUDED.post_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //특정 게시판에 작성된 글 수 조회 (Soft Delete 처리된 글은 포함되지 않음)
+    public Long findPostCount(Long boardId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE(SUM(post_count), 0), 0) FROM board_post_count WHERE board_id = ?", Long.class, boardId);
+    }
+
+    //작성된 전체글 수 조회 (게시판별 글 수의 합, 게시판 수 * STRIPES 개의 행만 조회)
+    public Long findTotalPostCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE(SUM(post_count), 0), 0) FROM board_post_count", Long.class);
+    }
+
+    public void increasePostCount(Long boardId) {
+        add(boardId, 1);
+    }
+
+    public void decreasePostCount(Long boardId) {
+        add(boardId, -1);
+    }
+
+    private void add(Long boardId, int delta) {
+        jdbcTemplate.update(ADD, boardId, ThreadLocalRandom.current().nextInt(STRIPES), delta);
+    }
+}
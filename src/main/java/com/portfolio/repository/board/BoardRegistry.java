@@ -0,0 +1,97 @@
+package com.portfolio.repository.board;
+
+import com.portfolio.response.board.BoardResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 게시판 목록을 메모리에 올려두고 조회하는 Class
+ * 게시판은 거의 변경되지 않으므로 애플리케이션 시작시 한번 로딩하고, 게시판이 생성될 때만 다시 로딩함
+ * 다른 서버에서 생성된 게시판은 목록에 없으므로, 목록에 없는 게시판은 DB 에서 확인하고 존재하면 다시 로딩함
+ * 다시 로딩할 때는 새로 만든 불변 목록으로 한번에 교체하므로 조회중인 요청은 이전 목록이나 새 목록 중 하나만 보게 됨
+ */
+@RequiredArgsConstructor
+@Component
+public class BoardRegistry {
+
+    private final BoardRepository boardRepository;
+
+    private volatile Boards boards = Boards.EMPTY;
+
+    @PostConstruct
+    public void reload() {
+        List<BoardResponse> list = boardRepository.findAll(Sort.by(Sort.Direction.ASC, "boardName"))
+                .stream().map(BoardResponse::new).collect(Collectors.toList());
+        boards = new Boards(list);
+    }
+
+    /** 현재 트랜잭션이 커밋된 후에 다시 로딩 (트랜잭션이 없으면 바로 로딩) */
+    public void reloadAfterCommit() {
+        runAfterCommit(this::reload);
+    }
+
+    public boolean exists(String boardName) {
+        return findByName(boardName) != null;
+    }
+
+    /** 게시판 이름으로 게시판 번호 조회 (존재하지 않으면 null) */
+    public Long getId(String boardName) {
+        BoardResponse board = findByName(boardName);
+        return board != null ? board.getId() : null;
+    }
+
+    public BoardResponse get(Long boardId) {
+        BoardResponse board = boards.byId.get(boardId);
+        if (board == null && boardId != null && boardRepository.existsById(boardId)) {
+            reload();
+            board = boards.byId.get(boardId);
+        }
+        return board;
+    }
+
+    //목록에 없으면 다른 서버에서 생성된 게시판일 수 있으므로 DB 에서 확인
+    private BoardResponse findByName(String boardName) {
+        if (boardName == null) {
+            return null;
+        }
+        BoardResponse board = boards.byName.get(boardName);
+        if (board == null && boardRepository.existsByBoardName(boardName)) {
+            reload();
+            board = boards.byName.get(boardName);
+        }
+        return board;
+    }
+
+    /** 게시판 이름순으로 정렬된 전체 게시판 목록 */
+    public List<BoardResponse> getList() {
+        return boards.list;
+    }
+
+    //한번 만들어지면 변경되지 않는 게시판 목록
+    private static class Boards {
+
+        private static final Boards EMPTY = new Boards(Collections.emptyList());
+
+        private final List<BoardResponse> list;
+        private final Map<String, BoardResponse> byName;
+        private final Map<Long, BoardResponse> byId;
+
+        private Boards(List<BoardResponse> list) {
+            this.list = Collections.unmodifiableList(list);
+            this.byName = list.stream()
+                    .collect(Collectors.toUnmodifiableMap(BoardResponse::getBoardName, Function.identity()));
+            this.byId = list.stream()
+                    .collect(Collectors.toUnmodifiableMap(BoardResponse::getId, Function.identity()));
+        }
+    }
+}
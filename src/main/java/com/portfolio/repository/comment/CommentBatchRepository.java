@@ -0,0 +1,69 @@
+package com.portfolio.repository.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * 여러 댓글을 INSERT 문 하나로 저장하는 Class (CommentBatchWriter 에서 사용)
+ * 댓글 번호가 IDENTITY 로 생성되어 JPA 로는 INSERT 를 모아 보낼 수 없으므로 JDBC 로 여러 행을 한번에 INSERT 함
+ */
+@RequiredArgsConstructor
+@Repository
+public class CommentBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 댓글들을 저장하고 글의 댓글수를 증가시킨 후, 저장된 순서대로 댓글 번호 반환 */
+    @Transactional
+    public List<Long> insertComments(List<NewComment> comments) {
+        String sql = "INSERT INTO comment (post_id, member_id, parent_id, content, is_enabled, reply_count, " +
+                "created_at, last_modified_date) VALUES " +
+                String.join(", ", Collections.nCopies(comments.size(), "(?, ?, null, ?, true, 0, ?, ?)"));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[]{"comment_id"});
+            int index = 1;
+            for (NewComment comment : comments) {
+                ps.setLong(index++, comment.getPostId());
+                ps.setLong(index++, comment.getMemberId());
+                ps.setString(index++, comment.getContent());
+                ps.setTimestamp(index++, now);
+                ps.setTimestamp(index++, now);
+            }
+            return ps;
+        }, keyHolder);
+
+        increaseCommentCounts(comments);
+
+        return keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .collect(Collectors.toList());
+    }
+
+    //글마다 UPDATE 문 하나로 저장된 댓글 수 만큼 증가
+    private void increaseCommentCounts(List<NewComment> comments) {
+        Map<Long, Long> counts = comments.stream().collect(groupingBy(NewComment::getPostId, counting()));
+        List<Object[]> args = counts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("UPDATE post SET comment_count = comment_count + ? WHERE post_id = ?", args);
+    }
+}
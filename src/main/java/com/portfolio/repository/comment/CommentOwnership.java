@@ -0,0 +1,34 @@
+package com.portfolio.repository.comment;
+
+import lombok.Getter;
+
+/** 댓글 삭제, 수정 권한 확인에 필요한 컬럼만 조회한 결과 (댓글 엔티티와 작성자, 글을 조회하지 않음) */
+@Getter
+public class CommentOwnership {
+
+    private final Long commentId;
+
+    //댓글이 달린 글 번호 (댓글수 감소, 캐시 제거, 실시간 이벤트 전달에 사용)
+    private final Long postId;
+
+    //부모 댓글 번호 (댓글이면 null)
+    private final Long parentId;
+
+    //작성자
+    private final String username;
+
+    //댓글이 달린 글이 Soft Delete 처리 되지 않았는지 여부
+    private final Boolean postEnabled;
+
+    public CommentOwnership(Long commentId, Long postId, Long parentId, String username, Boolean postEnabled) {
+        this.commentId = commentId;
+        this.postId = postId;
+        this.parentId = parentId;
+        this.username = username;
+        this.postEnabled = postEnabled;
+    }
+
+    public boolean isOwnedBy(String username) {
+        return this.username.equals(username);
+    }
+}
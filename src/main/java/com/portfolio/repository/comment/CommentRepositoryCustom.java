@@ -3,7 +3,9 @@ package com.portfolio.repository.comment;
 import com.portfolio.domain.Comment;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepositoryCustom {
@@ -17,8 +19,40 @@ public interface CommentRepositoryCustom {
     //특정 글에 달린 댓글과 대댓글 페이징 조회
     List<Comment> findCommentsInPost(Post post, int page);
 
+    //특정 글에 달린 댓글 커서 기반 조회 (afterId 보다 큰 번호의 댓글을 size + 1 개 조회)
+    List<Comment> findCommentsInPostAfter(Post post, Long afterId, int size);
+
+    //여러 댓글에 달린 대댓글을 댓글마다 앞에서부터 size 개씩 일괄 조회 (Soft Delete 처리된 대댓글 조회 불가, 작성자 함께 조회)
+    List<Comment> findFirstChildComments(Collection<Long> parentIds, int size);
+
+    //특정 댓글에 달린 대댓글 커서 기반 조회 (afterId 보다 큰 번호의 대댓글을 size + 1 개 조회)
+    List<Comment> findChildCommentsAfter(Long parentId, Long afterId, int size);
+
     Long findEnabledCommentCountInPost(Post post);
 
+    /**
+     * 댓글의 대댓글수 증감
+     * 엔티티를 수정하지 않고 UPDATE 문 하나로 처리하므로 동시에 요청이 들어와도 값이 유실되지 않음
+     */
+    @Transactional
+    void increaseReplyCount(Long commentId);
+
+    @Transactional
+    void decreaseReplyCount(Long commentId);
+
+    //댓글 번호로 글 번호, 부모 댓글 번호, 작성자, 글 삭제 여부만 조회 (Soft Delete 처리된 댓글은 조회되지 않음)
+    CommentOwnership findCommentOwnership(Long commentId);
+
+    /**
+     * 엔티티를 조회하지 않고 UPDATE 문 하나로 수정, Soft Delete 처리
+     * Soft Delete 처리되지 않은 댓글만 대상이며 처리된 댓글 수를 반환
+     */
+    @Transactional
+    long editComment(Long commentId, String content);
+
+    @Transactional
+    long softDeleteComment(Long commentId);
+
     //Soft Delete 처리 되지 않은 모든 댓글 개수 조회
     /** 테스트 케이스용 method */
     Long countActiveComments();
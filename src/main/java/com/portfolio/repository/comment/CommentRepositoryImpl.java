@@ -2,10 +2,15 @@ package com.portfolio.repository.comment;
 
 import com.portfolio.domain.*;
 import com.portfolio.repository.comment.CommentRepositoryCustom;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,8 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    private final EntityManager entityManager;
+
     //내가 작성한 댓글과 대댓글 페이징 조회 (Soft Delete 처리된 댓글과 대댓글 조회 불가)
     @Override
             //TODO  //<=========== 처리 해야됨
@@ -49,21 +56,82 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
     /**
      * 조회 하는 댓글의 종류
      * 1. Soft Delete 처리 되지 않은 댓글
-     * 2. Soft Delete 처리가 되었으나 대댓글이 존재하는 댓글
+     * 2. Soft Delete 처리가 되었으나 Soft Delete 처리되지 않은 대댓글이 존재하는 댓글 (대댓글수 컬럼으로 확인)
      */
     @Override
     public List<Comment> findCommentsInPost(Post post, int page) {
         return jpaQueryFactory.selectFrom(comment)
                 .where(comment.post.eq(post))
                 .where(comment.parent.isNull())
-                .where(comment.isEnabled.eq(true).or
-                        ((comment.isEnabled.eq(false).and(comment.childs.isNotEmpty()))))
+                .where(comment.isEnabled.eq(true).or(comment.replyCount.gt(0)))
                 .leftJoin(comment.member, member).fetchJoin()
+                .orderBy(comment.id.asc())
                 .offset(getOffset(page))
                 .limit(20)
                 .fetch();
     }
 
+    @Override
+    public List<Comment> findCommentsInPostAfter(Post post, Long afterId, int size) {
+        return jpaQueryFactory.selectFrom(comment)
+                .where(comment.post.eq(post))
+                .where(comment.parent.isNull())
+                .where(comment.isEnabled.eq(true).or(comment.replyCount.gt(0)))
+                .where(commentIdGreaterThan(afterId))
+                .leftJoin(comment.member, member).fetchJoin()
+                .orderBy(comment.id.asc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findFirstChildComments(Collection<Long> parentIds, int size) {
+        List<Long> childIds = findFirstChildCommentIds(parentIds, size);
+        if (childIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return jpaQueryFactory.selectFrom(comment)
+                .where(comment.id.in(childIds))
+                .leftJoin(comment.member, member).fetchJoin()
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    //댓글마다 대댓글에 번호순으로 순번을 매겨 앞에서부터 size 개의 대댓글 번호만 조회
+    /** JPQL 은 윈도우 함수를 지원하지 않아 Native Query 로 조회 */
+    private List<Long> findFirstChildCommentIds(Collection<Long> parentIds, int size) {
+        List<?> result = entityManager.createNativeQuery(
+                        "SELECT t.comment_id FROM (" +
+                                "SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.comment_id) AS rn " +
+                                "FROM comment c WHERE c.parent_id IN (:parentIds) AND c.is_enabled = true) t " +
+                                "WHERE t.rn <= :size")
+                .setParameter("parentIds", parentIds)
+                .setParameter("size", size)
+                .getResultList();
+
+        return result.stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Comment> findChildCommentsAfter(Long parentId, Long afterId, int size) {
+        return jpaQueryFactory.selectFrom(comment)
+                .where(comment.parent.id.eq(parentId))
+                .where(comment.isEnabled.eq(true))
+                .where(commentIdGreaterThan(afterId))
+                .leftJoin(comment.member, member).fetchJoin()
+                .orderBy(comment.id.asc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    //커서가 없으면 조건을 걸지 않음 (가장 먼저 작성된 댓글부터 조회)
+    private BooleanExpression commentIdGreaterThan(Long afterId) {
+        return afterId != null ? comment.id.gt(afterId) : null;
+    }
+
     @Override
     public Long findEnabledCommentCountInPost(Post post) {
         return jpaQueryFactory.select(comment.count())
@@ -73,6 +141,56 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                 .fetchOne();
     }
 
+    @Override
+    public void increaseReplyCount(Long commentId) {
+        jpaQueryFactory.update(comment)
+                .set(comment.replyCount, comment.replyCount.add(1))
+                .where(comment.id.eq(commentId))
+                .execute();
+    }
+
+    @Override
+    public CommentOwnership findCommentOwnership(Long commentId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(CommentOwnership.class,
+                        comment.id, comment.post.id, comment.parent.id, member.username, post.isEnabled))
+                .from(comment)
+                .join(comment.member, member)
+                .leftJoin(comment.post, post)
+                .where(comment.id.eq(commentId))
+                .where(comment.isEnabled.eq(true))
+                .fetchOne();
+    }
+
+    //벌크 UPDATE 는 JPA Auditing 이 적용되지 않으므로 수정일을 직접 변경
+    @Override
+    public long editComment(Long commentId, String content) {
+        return jpaQueryFactory.update(comment)
+                .set(comment.content, content)
+                .set(comment.lastModifiedDate, LocalDateTime.now())
+                .where(comment.id.eq(commentId))
+                .where(comment.isEnabled.eq(true))
+                .execute();
+    }
+
+    @Override
+    public long softDeleteComment(Long commentId) {
+        return jpaQueryFactory.update(comment)
+                .set(comment.isEnabled, false)
+                .where(comment.id.eq(commentId))
+                .where(comment.isEnabled.eq(true))
+                .execute();
+    }
+
+    @Override
+    public void decreaseReplyCount(Long commentId) {
+        jpaQueryFactory.update(comment)
+                .set(comment.replyCount, comment.replyCount.subtract(1))
+                .where(comment.id.eq(commentId))
+                .where(comment.replyCount.gt(0))
+                .execute();
+    }
+
     @Override
     public Long countActiveComments() {
         return jpaQueryFactory.select(comment.count())
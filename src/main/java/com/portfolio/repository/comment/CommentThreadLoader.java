@@ -0,0 +1,64 @@
+package com.portfolio.repository.comment;
+
+import com.portfolio.domain.Comment;
+import com.portfolio.domain.Post;
+import com.portfolio.response.comment.ChildCommentResponse;
+import com.portfolio.response.comment.PostCommentResponse;
+import com.portfolio.response.common.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 특정 글에 달린 댓글 한 페이지와 그 대댓글들을 조회해 댓글 목록을 구성하는 Class
+ * 댓글 페이지 조회 쿼리, 대댓글 IN 쿼리로 대댓글 수와 상관없이 쿼리 수가 일정함
+ * 대댓글은 댓글마다 REPLY_PAGE_SIZE 개까지만 담고, 나머지는 nextReplyCursor 로 이어서 조회 (/comments/replies)
+ */
+@RequiredArgsConstructor
+@Component
+public class CommentThreadLoader {
+
+    public static final int REPLY_PAGE_SIZE = 10;
+
+    private final CommentRepository commentRepository;
+
+    //댓글 페이징 조회
+    public List<PostCommentResponse> load(Post post, int page) {
+        return withReplies(commentRepository.findCommentsInPost(post, page));
+    }
+
+    //댓글 커서 기반 조회
+    public CursorResponse<PostCommentResponse> loadAfter(Post post, Long afterId, int size) {
+        List<PostCommentResponse> threads = withReplies(commentRepository.findCommentsInPostAfter(post, afterId, size));
+        return CursorResponse.of(threads, size, PostCommentResponse::getId);
+    }
+
+    private List<PostCommentResponse> withReplies(List<Comment> roots) {
+        if (roots.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<ChildCommentResponse>> childs = loadChildComments(roots);
+
+        return roots.stream()
+                .map(root -> new PostCommentResponse(root, CursorResponse.of(
+                        childs.getOrDefault(root.getId(), new ArrayList<>()), REPLY_PAGE_SIZE, ChildCommentResponse::getId)))
+                .collect(Collectors.toList());
+    }
+
+    //부모 댓글 번호별 대댓글 목록 (작성 순서, 다음 대댓글 존재 여부 확인을 위해 REPLY_PAGE_SIZE + 1 개까지 조회)
+    private Map<Long, List<ChildCommentResponse>> loadChildComments(List<Comment> roots) {
+        List<Long> rootIds = roots.stream().map(Comment::getId).collect(toList());
+
+        return commentRepository.findFirstChildComments(rootIds, REPLY_PAGE_SIZE + 1).stream()
+                .collect(groupingBy(c -> c.getParent().getId(), mapping(ChildCommentResponse::new, toList())));
+    }
+}
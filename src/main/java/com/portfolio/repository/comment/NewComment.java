@@ -0,0 +1,20 @@
+package com.portfolio.repository.comment;
+
+import lombok.Getter;
+
+/** CommentBatchRepository 로 한번에 INSERT 할 댓글 하나 (대댓글이 아닌 댓글만) */
+@Getter
+public class NewComment {
+
+    private final Long postId;
+
+    private final Long memberId;
+
+    private final String content;
+
+    public NewComment(Long postId, Long memberId, String content) {
+        this.postId = postId;
+        this.memberId = memberId;
+        this.content = content;
+    }
+}
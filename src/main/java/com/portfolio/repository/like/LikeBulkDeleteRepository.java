@@ -0,0 +1,53 @@
+package com.portfolio.repository.like;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+/**
+ * 글 하나에 달린 좋아요를 엔티티로 불러오지 않고 DELETE 문으로 한번에 삭제하는 Class
+ * 좋아요가 많은 글도 잠금과 트랜잭션이 길어지지 않도록 chunk-size 개씩 나눠서, 나눈 묶음마다 별도의 트랜잭션으로 삭제함
+ */
+@Repository
+public class LikeBulkDeleteRepository {
+
+    private static final String DELETE_CHUNK = "DELETE FROM likes WHERE like_id IN " +
+            "(SELECT like_id FROM likes WHERE post_id = ? LIMIT ?)";
+
+    //남은 좋아요 수로 맞춤 (삭제하는 동안 좋아요가 눌린 경우에도 좋아요 테이블과 일치)
+    private static final String RESET_LIKE_COUNT = "UPDATE post SET like_count = " +
+            "(SELECT COUNT(*) FROM likes WHERE likes.post_id = post.post_id) WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public LikeBulkDeleteRepository(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${like.purge.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 글에 달린 좋아요를 모두 삭제한 후 좋아요수 컬럼을 맞춤 (삭제된 좋아요 수 반환)
+     * 현재 트랜잭션과 관계없이 묶음마다 바로 커밋됨
+     */
+    public long deleteLikesByPost(Long postId) {
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_CHUNK, postId, chunkSize));
+            deleted += chunk;
+        } while (chunk == chunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(RESET_LIKE_COUNT, postId));
+        return deleted;
+    }
+}
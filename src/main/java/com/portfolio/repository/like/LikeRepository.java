@@ -12,9 +12,6 @@ import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<Like, Long>, LikeRepositoryCustom {
 
-
-    void deleteAllByPost(Post post);
-
     Like findByPostAndMember(Post post, Member member);
 
 
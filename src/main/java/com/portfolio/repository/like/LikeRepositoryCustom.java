@@ -16,5 +16,8 @@ public interface LikeRepositoryCustom {
     /**현재 접속중인 회원이 해당글에 좋아요를 눌렀는지 여부 확인*/
     Boolean pressedLikeOnThisPost(Post post);
 
+    /** 특정 회원이 좋아요를 누른 모든 글 번호 조회 (LikedPostIndex 에서 사용, 삭제된 글 포함) */
+    List<Long> findLikedPostIds(String username);
+
 
 }
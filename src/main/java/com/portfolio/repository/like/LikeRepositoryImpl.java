@@ -9,6 +9,7 @@ import java.util.List;
 
 import static com.portfolio.domain.QBoard.*;
 import static com.portfolio.domain.QLike.*;
+import static com.portfolio.domain.QMember.member;
 import static com.portfolio.domain.QPost.*;
 import static com.portfolio.repository.util.MemberUtil.getAuthenticatedUsername;
 
@@ -35,6 +36,15 @@ public class LikeRepositoryImpl implements LikeRepositoryCustom {
                 .fetchOne() != null;
     }
 
+    @Override
+    public List<Long> findLikedPostIds(String username) {
+        return jpaQueryFactory.select(like.post.id)
+                .from(like)
+                .join(like.member, member)
+                .where(member.username.eq(username))
+                .fetch();
+    }
+
 
 
 
@@ -0,0 +1,75 @@
+package com.portfolio.repository.like;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 저장, 삭제를 SQL 한번으로 처리하는 Class (엔티티와 회원을 조회하지 않음)
+ * 회원 번호는 로그인 정보의 번호를 사용하고, Soft Delete 처리되지 않은 글과 탈퇴, 강퇴되지 않은 회원인 경우에만 INSERT ... SELECT 로 저장함
+ * 이미 좋아요를 누른 경우 (post_id, member_id) 유니크 인덱스에 의해 저장되지 않으므로 동시에 요청해도 한건만 저장됨
+ * PostgreSQL 과 H2 (별도 메모리 DB 를 사용하는 테스트) 만 지원하며, 그 외의 DB 로는 시작하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeUpsertRepository {
+
+    private static final String SELECT_POST_AND_MEMBER = "SELECT p.post_id, m.member_id, ?, ? FROM post p, member m " +
+            "WHERE p.post_id = ? AND p.is_enabled = true AND m.member_id = ? AND m.is_enabled = true";
+
+    //PostgreSQL : 유니크 인덱스에 걸리면 저장하지 않음
+    private static final String INSERT_ON_CONFLICT = "INSERT INTO likes (post_id, member_id, created_at, last_modified_date) " +
+            SELECT_POST_AND_MEMBER + " ON CONFLICT (post_id, member_id) DO NOTHING";
+
+    //H2 : 이미 있으면 저장하지 않고, 동시에 저장되어 유니크 인덱스에 걸린 경우는 예외를 받아 처리
+    private static final String INSERT_IF_NOT_EXISTS = "INSERT INTO likes (post_id, member_id, created_at, last_modified_date) " +
+            SELECT_POST_AND_MEMBER + " AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.post_id = p.post_id AND l.member_id = m.member_id)";
+
+    private static final String DELETE = "DELETE FROM likes WHERE post_id = ? AND member_id = ? " +
+            "AND post_id IN (SELECT post_id FROM post WHERE post_id = ? AND is_enabled = true)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean onConflictSupported;
+
+    @PostConstruct
+    public void init() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(database) == false && "H2".equals(database) == false) {
+            throw new IllegalStateException("좋아요 저장은 PostgreSQL, H2 만 지원합니다 : " + database);
+        }
+        onConflictSupported = "PostgreSQL".equals(database);
+    }
+
+    /**
+     * 좋아요 저장 (저장되었으면 true)
+     * 글이 없거나 Soft Delete 처리 되었거나, 회원이 탈퇴, 강퇴되었거나, 이미 좋아요를 누른 경우 false
+     */
+    public boolean insertIfAbsent(Long postId, Long memberId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (onConflictSupported) {
+            return jdbcTemplate.update(INSERT_ON_CONFLICT, now, now, postId, memberId) == 1;
+        }
+
+        try {
+            return jdbcTemplate.update(INSERT_IF_NOT_EXISTS, now, now, postId, memberId) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 좋아요 삭제 (삭제되었으면 true)
+     * 글이 없거나 Soft Delete 처리 되었거나 좋아요를 누르지 않은 경우 false
+     */
+    public boolean deleteIfPresent(Long postId, Long memberId) {
+        return jdbcTemplate.update(DELETE, postId, memberId, postId) == 1;
+    }
+}
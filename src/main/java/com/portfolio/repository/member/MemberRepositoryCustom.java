@@ -8,6 +8,23 @@ public interface MemberRepositoryCustom {
 
     Member findActiveMemberByUsername(String username);
 
+    //탈퇴하지 않은 회원의 번호만 조회 (없으면 null)
+    Long findActiveMemberIdByUsername(String username);
+
+    //회원 번호로 탈퇴, 강퇴되지 않은 회원인지 확인
+    boolean isActiveMember(Long memberId);
+
+    //토큰 발급용 회원 번호, 이름, 권한 조회 (탈퇴, 강퇴된 회원이면 null)
+    MemberTokenState findActiveTokenState(Long memberId);
+
+    //로그인용 회원 조회 (회원 이름 또는 이메일을 대소문자 구분 없이 쿼리 한번으로 조회, 탈퇴한 회원 포함, 없으면 null)
+    Member findByUsernameOrEmail(String usernameOrEmail);
+
+    //회원가입시 중복 확인 (대소문자 구분 없이 확인, 탈퇴한 회원 포함)
+    boolean isUsernameTaken(String username);
+
+    boolean isEmailTaken(String email);
+
     Long countActiveMember();
 
     List<Member> findAllActiveMember();
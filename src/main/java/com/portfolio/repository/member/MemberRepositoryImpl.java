@@ -3,10 +3,12 @@ package com.portfolio.repository.member;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.QMember;
 import com.portfolio.exception.custom.CustomNotFoundException;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Locale;
 
 import static com.portfolio.domain.QMember.*;
 import static com.portfolio.exception.custom.CustomNotFoundException.MEMBER_NOT_FOUND;
@@ -30,6 +32,64 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
         return findMember;
     }
 
+    @Override
+    public Long findActiveMemberIdByUsername(String username) {
+        return jpaQueryFactory.select(member.id)
+                .from(member)
+                .where(member.isEnabled.eq(true))
+                .where(member.username.eq(username))
+                .fetchOne();
+    }
+
+    @Override
+    public boolean isActiveMember(Long memberId) {
+        return jpaQueryFactory.selectOne()
+                .from(member)
+                .where(member.id.eq(memberId))
+                .where(member.isEnabled.eq(true))
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public MemberTokenState findActiveTokenState(Long memberId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(MemberTokenState.class,
+                        member.id, member.username, member.role))
+                .from(member)
+                .where(member.id.eq(memberId))
+                .where(member.isEnabled.eq(true))
+                .fetchOne();
+    }
+
+    /**
+     * 회원 이름에는 @ 를 사용할수 없으므로 회원 이름과 이메일 중 하나만 일치함
+     * lower(username), lower(email) 인덱스를 사용 (schema-postgresql.sql)
+     */
+    @Override
+    public Member findByUsernameOrEmail(String usernameOrEmail) {
+        String key = usernameOrEmail.toLowerCase(Locale.ROOT);
+        return jpaQueryFactory.selectFrom(member)
+                .where(member.username.lower().eq(key)
+                        .or(member.email.lower().eq(key)))
+                .fetchFirst();
+    }
+
+    @Override
+    public boolean isUsernameTaken(String username) {
+        return jpaQueryFactory.selectOne()
+                .from(member)
+                .where(member.username.lower().eq(username.toLowerCase(Locale.ROOT)))
+                .fetchFirst() != null;
+    }
+
+    @Override
+    public boolean isEmailTaken(String email) {
+        return jpaQueryFactory.selectOne()
+                .from(member)
+                .where(member.email.lower().eq(email.toLowerCase(Locale.ROOT)))
+                .fetchFirst() != null;
+    }
+
     @Override
     public Long countActiveMember() {
         Long count = jpaQueryFactory.select(member.count())
@@ -0,0 +1,21 @@
+package com.portfolio.repository.member;
+
+import com.portfolio.domain.MemberRole;
+import lombok.Getter;
+
+/** 토큰 발급에 필요한 컬럼만 조회한 결과 (탈퇴, 강퇴되지 않은 회원만 조회, 회원 엔티티를 조회하지 않음) */
+@Getter
+public class MemberTokenState {
+
+    private final Long memberId;
+
+    private final String username;
+
+    private final MemberRole role;
+
+    public MemberTokenState(Long memberId, String username, MemberRole role) {
+        this.memberId = memberId;
+        this.username = username;
+        this.role = role;
+    }
+}
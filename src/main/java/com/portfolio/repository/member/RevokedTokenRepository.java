@@ -0,0 +1,71 @@
+package com.portfolio.repository.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 폐기된 토큰 id (revoked_token) 저장, 조회용 Class (RevokedTokens 에서 사용)
+ * 같은 토큰 id 는 token_id 유니크 인덱스에 의해 한번만 저장되므로, 저장되었는지로 처음 폐기한 요청인지 확인함
+ * PostgreSQL 과 H2 (별도 메모리 DB 를 사용하는 테스트) 만 지원하며, 그 외의 DB 로는 시작하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRepository {
+
+    //PostgreSQL : 유니크 인덱스에 걸리면 저장하지 않음 (트랜잭션이 중단되지 않도록 예외 없이 처리)
+    private static final String INSERT_ON_CONFLICT = "INSERT INTO revoked_token (token_id, revoked_at, expires_at) " +
+            "VALUES (?, ?, ?) ON CONFLICT (token_id) DO NOTHING";
+
+    //H2 : 이미 있으면 저장하지 않고, 동시에 저장되어 유니크 인덱스에 걸린 경우는 예외를 받아 처리
+    private static final String INSERT_IF_NOT_EXISTS = "INSERT INTO revoked_token (token_id, revoked_at, expires_at) " +
+            "SELECT ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM revoked_token WHERE token_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean onConflictSupported;
+
+    @PostConstruct
+    public void init() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(database) == false && "H2".equals(database) == false) {
+            throw new IllegalStateException("토큰 폐기는 PostgreSQL, H2 만 지원합니다 : " + database);
+        }
+        onConflictSupported = "PostgreSQL".equals(database);
+    }
+
+    /** 토큰 id 를 폐기된 id 로 저장 (저장되었으면 true, 이미 폐기된 id 이면 false) */
+    public boolean insertIfAbsent(String tokenId, long revokedAt, long expiresAt) {
+        if (onConflictSupported) {
+            return jdbcTemplate.update(INSERT_ON_CONFLICT, tokenId, revokedAt, expiresAt) == 1;
+        }
+
+        try {
+            return jdbcTemplate.update(INSERT_IF_NOT_EXISTS, tokenId, revokedAt, expiresAt, tokenId) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /** revokedAt 이후에 폐기된 토큰 id 와 폐기 시각 조회 */
+    public Map<String, Long> findRevokedSince(long revokedAt) {
+        Map<String, Long> revoked = new HashMap<>();
+        jdbcTemplate.query("SELECT token_id, revoked_at FROM revoked_token WHERE revoked_at >= ?",
+                rs -> {
+                    revoked.put(rs.getString("token_id"), rs.getLong("revoked_at"));
+                }, revokedAt);
+        return revoked;
+    }
+
+    /** 폐기된 토큰이 모두 만료된 행 삭제 (삭제한 행 수 반환) */
+    public int deleteExpired(long now) {
+        return jdbcTemplate.update("DELETE FROM revoked_token WHERE expires_at < ?", now);
+    }
+}
@@ -0,0 +1,77 @@
+package com.portfolio.repository.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 글의 좋아요수 컬럼 (post.like_count) 조회, 변경용 Class (LikeCounter 에서 사용)
+ * 메모리에 모아둔 증감량을 글마다 UPDATE 문 하나씩, JDBC batch 로 한번에 반영함
+ * 반영되지 못한 증감량(서버 장애 등)은 좋아요 테이블에서 다시 세어 맞춤
+ */
+@RequiredArgsConstructor
+@Repository
+public class PostLikeCountRepository {
+
+    //좋아요 테이블에서 센 글의 좋아요수에서 아직 반영되지 않은 증감량을 뺀 값
+    private static final String RECOUNTED = "GREATEST((SELECT count(*) FROM likes WHERE likes.post_id = post.post_id) - ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 글의 좋아요수 컬럼 조회 (글이 없으면 0) */
+    public long findLikeCount(Long postId) {
+        List<Long> result = jdbcTemplate.queryForList(
+                "SELECT like_count FROM post WHERE post_id = ?", Long.class, postId);
+        return result.isEmpty() ? 0 : result.get(0);
+    }
+
+    /** 여러 글의 좋아요수 컬럼을 한번에 조회 (Soft Delete 처리된 글이나 없는 글은 포함되지 않음) */
+    public Map<Long, Long> findLikeCounts(Collection<Long> postIds) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+
+        jdbcTemplate.query("SELECT post_id, like_count FROM post WHERE is_enabled = true AND post_id IN (" + placeholders + ")",
+                rs -> {
+                    likeCounts.put(rs.getLong("post_id"), rs.getLong("like_count"));
+                }, postIds.toArray());
+        return likeCounts;
+    }
+
+    /** 글 번호별 증감량을 좋아요수 컬럼에 더함 (0 보다 작아지지 않음) */
+    @Transactional
+    public void addLikeCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("UPDATE post SET like_count = GREATEST(like_count + ?, 0) WHERE post_id = ?", args);
+    }
+
+    /**
+     * 글 번호별로 좋아요 테이블에서 좋아요수를 다시 세어 좋아요수 컬럼에 저장 (값이 다른 행만 변경)
+     * 아직 반영되지 않은 증감량의 좋아요는 이미 저장되어 세어지므로, 나중에 반영될 때 두번 더해지지 않도록 빼고 저장함
+     */
+    @Transactional
+    public void recountLikeCounts(Map<Long, Long> pendingDeltas) {
+        List<Object[]> args = pendingDeltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("UPDATE post SET like_count = " + RECOUNTED +
+                " WHERE post_id = ? AND like_count <> " + RECOUNTED, args);
+    }
+
+    /** 글 번호 순으로 afterId 다음 글 번호를 size 개 조회 (Soft Delete 처리된 글 포함) */
+    public List<Long> findPostIdsAfter(Long afterId, int size) {
+        return jdbcTemplate.queryForList(
+                "SELECT post_id FROM post WHERE post_id > ? ORDER BY post_id LIMIT ?", Long.class, afterId, size);
+    }
+}
@@ -0,0 +1,26 @@
+package com.portfolio.repository.post;
+
+import lombok.Getter;
+
+/** 글 삭제, 수정 권한 확인에 필요한 컬럼만 조회한 결과 (글 엔티티와 작성자를 조회하지 않음) */
+@Getter
+public class PostOwnership {
+
+    private final Long postId;
+
+    //글 수 감소, 글 목록 캐시 제거에 사용할 게시판 번호
+    private final Long boardId;
+
+    //작성자
+    private final String username;
+
+    public PostOwnership(Long postId, Long boardId, String username) {
+        this.postId = postId;
+        this.boardId = boardId;
+        this.username = username;
+    }
+
+    public boolean isOwnedBy(String username) {
+        return this.username.equals(username);
+    }
+}
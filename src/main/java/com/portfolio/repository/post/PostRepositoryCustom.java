@@ -1,30 +1,68 @@
 package com.portfolio.repository.post;
 
 import com.portfolio.domain.Member;
-import com.portfolio.domain.Post;
+import com.portfolio.request.post.EditPost;
 import com.portfolio.request.post.SearchPostsByBoard;
+import com.portfolio.response.post.BoardPostResponse;
+import com.portfolio.response.post.MemberCommentPostResponse;
+import com.portfolio.response.post.MemberPostResponse;
+import com.portfolio.response.post.MyLikedPostResponse;
+import com.portfolio.response.post.PostResponse;
 import lombok.extern.java.Log;
 
 import java.util.List;
 
 public interface PostRepositoryCustom {
 
+    /**
+     * 글 목록 조회는 엔티티 대신 Response 에 필요한 컬럼만 조회해 바로 DTO 로 반환
+     * (본문을 조회하지 않고, 연관 엔티티 지연 로딩이나 영속성 컨텍스트 관리 비용이 없음)
+     */
 
-    //특정 게시판에 작성된 글 페이징 조회
-    List<Post> findPostsByBoard(SearchPostsByBoard searchPostsByBoard);
+    //특정 게시판에 작성된 글 페이징 조회 (게시판 번호는 BoardRegistry 에서 조회한 값)
+    List<BoardPostResponse> findPostsByBoard(Long boardId, SearchPostsByBoard searchPostsByBoard);
+
+    //특정 게시판에 작성된 글 커서 기반 조회 (beforeId 보다 작은 번호의 글을 size + 1 개 조회)
+    List<BoardPostResponse> findPostsByBoardBefore(Long boardId, SearchPostsByBoard searchPostsByBoard);
 
     //특정 회원이 작성한 글 페이징 조회
-    List<Post> findPostsByMember(Member member, int page);
+    List<MemberPostResponse> findPostsByMember(Member member, int page);
 
     //특정 회원이 작성한 총 글 갯수 조회 (Soft Delete 처리된 글 포함)
     Long findPostCountByMember(Member member);
 
     // 특정 회원이 댓글단 글 페이징 조회 (Soft Delete 처리된 글은 조회되지 않음, 탈퇴한 회원이 댓글단글 조회 불가)
-    List<Post> findPostsCommentedMyMember(Member member, int page);
+    List<MemberCommentPostResponse> findPostsCommentedMyMember(Member member, int page);
+
+    // 특정 회원이 댓글단 글 커서 기반 조회 (회원의 마지막 댓글 번호가 beforeCommentId 보다 작은 글을 size + 1 개 조회)
+    List<MemberCommentPostResponse> findPostsCommentedByMemberBefore(Member member, Long beforeCommentId, int size);
 
     // 현재 접속중인 회원이 좋아요를 누른 글 페이징 조회 (Soft Delete 처리된 글은 조회되지 않음)
-    List<Post> findMyLikedPosts(int page);
+    List<MyLikedPostResponse> findMyLikedPosts(int page);
 
     // 작성된 전체글 페이징 조회 (Soft Delete 처리된 글은 조회되지 않음)
-    List<Post> findAllPosts(int page);
+    List<PostResponse> findAllPosts(int page);
+
+    // 작성된 전체글 커서 기반 조회 (beforeId 보다 작은 번호의 글을 size + 1 개 조회)
+    List<PostResponse> findAllPostsBefore(Long beforeId, int size);
+
+    /**
+     * 글의 댓글수 증감 (좋아요수는 LikeCounter 에서 모아서 반영)
+     * 엔티티를 수정하지 않고 UPDATE 문 하나로 처리하므로 동시에 요청이 들어와도 값이 유실되지 않음
+     */
+    void increaseCommentCount(Long postId);
+
+    void decreaseCommentCount(Long postId);
+
+    //글 번호로 게시판 번호와 작성자만 조회 (Soft Delete 처리된 글은 조회되지 않음)
+    PostOwnership findPostOwnership(Long postId);
+
+    /**
+     * 작성자 본인의 글일 때만 제목, 내용, 댓글 허용 여부를 수정 (엔티티를 조회하지 않고 UPDATE 문 하나로 처리)
+     * 수정된 글 수를 반환하며 0 이면 글이 없거나 Soft Delete 처리 되었거나 작성자가 아님
+     */
+    long editPost(EditPost request, String username);
+
+    //Soft Delete 처리되지 않은 글일 때만 Soft Delete 처리 (처리된 글 수를 반환)
+    long softDeletePost(Long postId);
 }
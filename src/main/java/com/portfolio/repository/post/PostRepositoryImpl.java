@@ -1,10 +1,24 @@
 package com.portfolio.repository.post;
 
 import com.portfolio.domain.*;
+import com.portfolio.request.post.EditPost;
 import com.portfolio.request.post.SearchPostsByBoard;
+import com.portfolio.response.post.BoardPostResponse;
+import com.portfolio.response.post.MemberCommentPostResponse;
+import com.portfolio.response.post.MemberPostResponse;
+import com.portfolio.response.post.MyLikedPostResponse;
+import com.portfolio.response.post.PostResponse;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.portfolio.domain.Post.*;
@@ -37,25 +51,45 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
     /** 특정 게시판에 작성된 글 페이징 조회 */
     @Override
-    public List<Post> findPostsByBoard(SearchPostsByBoard searchRequest) {
+    public List<BoardPostResponse> findPostsByBoard(Long boardId, SearchPostsByBoard searchRequest) {
         return jpaQueryFactory
-                .selectFrom(post)
-                .where(post.board.boardName.eq(searchRequest.getBoard()))
-                .leftJoin(post.board, board).fetchJoin()
-                .leftJoin(post.member, member).fetchJoin()
+                .select(boardPostResponse())
+                .from(post)
+                .join(post.board, board)
+                .leftJoin(post.member, member)
+                .where(post.board.id.eq(boardId))
                 .orderBy(post.id.desc())
                 .offset(searchRequest.getOffset())
                 .limit(searchRequest.getSize())
                 .fetch();
     }
 
+    /**
+     * 특정 게시판에 작성된 글 커서 기반 조회
+     * offset 없이 기본키 기준으로 탐색하므로 몇번째 페이지든 첫 페이지와 같은 비용으로 조회됨
+     */
+    @Override
+    public List<BoardPostResponse> findPostsByBoardBefore(Long boardId, SearchPostsByBoard searchRequest) {
+        return jpaQueryFactory
+                .select(boardPostResponse())
+                .from(post)
+                .join(post.board, board)
+                .leftJoin(post.member, member)
+                .where(post.board.id.eq(boardId))
+                .where(postIdLessThan(searchRequest.getBeforeId()))
+                .orderBy(post.id.desc())
+                .limit(searchRequest.getSize() + 1)
+                .fetch();
+    }
+
     /** 특정 회원이 작성한 글 페이징 조회 */
     @Override
-    public List<Post> findPostsByMember(Member member, int page) {
+    public List<MemberPostResponse> findPostsByMember(Member member, int page) {
         return jpaQueryFactory
-                .selectFrom(post)
+                .select(Projections.constructor(MemberPostResponse.class,
+                        post.id, post.title, post.commentCount, post.lastModifiedDate))
+                .from(post)
                 .where(post.member.eq(member))
-                .leftJoin(post.board, board).fetchJoin()
                 .orderBy(post.id.desc())
                 .offset(getOffset(page))
                 .limit(20)
@@ -72,25 +106,43 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .fetchOne();
     }
 
-    /** 특정 회원이 댓글단 글 페이징 조회 */
-    //TODO isEnabled 확인
+    /**
+     * 특정 회원이 댓글단 글 페이징 조회
+     * 글마다 한번만 조회되고, 회원이 가장 최근에 댓글을 작성한 글부터 정렬됨
+     */
     @Override
-    public List<Post> findPostsCommentedMyMember(Member member, int page) {
-        return jpaQueryFactory.select(post)
-                .from(comment)
-                .where(comment.member.eq(member))
-                .where(post.isEnabled.eq(true))
-                .orderBy(comment.id.desc())
+    public List<MemberCommentPostResponse> findPostsCommentedMyMember(Member member, int page) {
+        return commentedPostsQuery(member)
+                .offset(getOffset(page))
+                .limit(20)
+                .fetch();
+    }
+
+    /**
+     * 특정 회원이 댓글단 글 커서 기반 조회
+     * 회원의 마지막 댓글 번호가 beforeCommentId 보다 작은 글을 마지막 댓글 번호 내림차순으로 쿼리 한번에 조회
+     * 회원의 댓글은 (member_id, comment_id) 인덱스로 읽고, 글 정보는 페이징 조회와 같은 GROUP BY 로 함께 조회함
+     */
+    @Override
+    public List<MemberCommentPostResponse> findPostsCommentedByMemberBefore(Member member, Long beforeCommentId, int size) {
+        return commentedPostsQuery(member)
+                .having(lastCommentIdLessThan(beforeCommentId))
+                .limit(size + 1)
                 .fetch();
     }
 
     /** 현재 접속중인 회원이 좋아요 누른 글 페이징 조회 */
     @Override
     //TODO isEnabled 확인
-    public List<Post> findMyLikedPosts(int page) {
-        return jpaQueryFactory.select(post)
+    public List<MyLikedPostResponse> findMyLikedPosts(int page) {
+        return jpaQueryFactory
+                .select(Projections.constructor(MyLikedPostResponse.class,
+                        post.id, post.title, member.username, post.commentCount, post.createdAt))
                 .from(like)
+                .join(like.post, post)
+                .leftJoin(post.member, member)
                 .where(like.member.username.eq(getAuthenticatedUsername()))
+                .where(post.isEnabled.eq(true))
                 .orderBy(like.id.desc())
                 .offset(getOffset(page))
                 .limit(20)
@@ -98,16 +150,133 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     }
 
     @Override
-    public List<Post> findAllPosts(int page) {
-        return jpaQueryFactory.selectFrom(post)
-                .leftJoin(post.member, member).fetchJoin()
-                .leftJoin(post.board, board).fetchJoin()
+    public List<PostResponse> findAllPosts(int page) {
+        return jpaQueryFactory
+                .select(postResponse())
+                .from(post)
+                .leftJoin(post.member, member)
+                .leftJoin(post.board, board)
                 .orderBy(post.id.desc())
                 .offset(getOffset(page))
                 .limit(20)
                 .fetch();
     }
 
+    /** 작성된 전체글 커서 기반 조회 */
+    @Override
+    public List<PostResponse> findAllPostsBefore(Long beforeId, int size) {
+        return jpaQueryFactory
+                .select(postResponse())
+                .from(post)
+                .leftJoin(post.member, member)
+                .leftJoin(post.board, board)
+                .where(postIdLessThan(beforeId))
+                .orderBy(post.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    @Override
+    public void increaseCommentCount(Long postId) {
+        jpaQueryFactory.update(post)
+                .set(post.commentCount, post.commentCount.add(1))
+                .where(post.id.eq(postId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseCommentCount(Long postId) {
+        jpaQueryFactory.update(post)
+                .set(post.commentCount, post.commentCount.subtract(1))
+                .where(post.id.eq(postId))
+                .where(post.commentCount.gt(0))
+                .execute();
+    }
+
+    @Override
+    public PostOwnership findPostOwnership(Long postId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(PostOwnership.class,
+                        post.id, post.board.id, member.username))
+                .from(post)
+                .join(post.member, member)
+                .where(post.id.eq(postId))
+                .fetchOne();
+    }
+
+    /**
+     * 작성자 확인은 username 으로 회원 번호를 조회하는 서브쿼리로 처리
+     * (벌크 UPDATE 는 JPA Auditing 이 적용되지 않으므로 수정일을 직접 변경)
+     */
+    @Override
+    public long editPost(EditPost request, String username) {
+        JPAUpdateClause update = jpaQueryFactory.update(post)
+                .set(post.title, request.getTitle())
+                .set(post.content, request.getContent())
+                .set(post.lastModifiedDate, LocalDateTime.now());
+
+        //댓글작성 허용 여부에 대한 변경 요청 정보가 없을 경우 기존 방식 유지
+        if (request.getCommentsAllowed() != null) {
+            update.set(post.commentsAllowed, request.getCommentsAllowed());
+        }
+
+        return update
+                .where(post.id.eq(request.getPostId()))
+                .where(post.isEnabled.eq(true))
+                .where(post.member.id.eq(JPAExpressions
+                        .select(member.id)
+                        .from(member)
+                        .where(member.username.eq(username))))
+                .execute();
+    }
+
+    @Override
+    public long softDeletePost(Long postId) {
+        return jpaQueryFactory.update(post)
+                .set(post.isEnabled, false)
+                .where(post.id.eq(postId))
+                .where(post.isEnabled.eq(true))
+                .execute();
+    }
+
+    //전체글 목록 조회시 필요한 컬럼만 조회 (본문 등은 조회하지 않고, 댓글수는 글에 함께 저장된 컬럼을 읽음)
+    private ConstructorExpression<PostResponse> postResponse() {
+        return Projections.constructor(PostResponse.class,
+                post.id, board.nickname, post.title, post.commentCount, member.username, post.createdAt);
+    }
+
+    //게시판 글 목록 조회시 필요한 컬럼만 조회 (댓글수, 좋아요수는 글에 함께 저장된 컬럼을 읽음)
+    private ConstructorExpression<BoardPostResponse> boardPostResponse() {
+        return Projections.constructor(BoardPostResponse.class,
+                board.nickname, post.id, post.title, member.username, post.commentCount, post.likeCount, post.createdAt);
+    }
+
+    //회원의 댓글을 글 단위로 묶어 글 정보, 작성자, 댓글수, 회원의 마지막 댓글 번호를 한번에 조회
+    private JPAQuery<MemberCommentPostResponse> commentedPostsQuery(Member member) {
+        NumberExpression<Long> lastCommentId = comment.id.max();
+
+        return jpaQueryFactory
+                .select(Projections.constructor(MemberCommentPostResponse.class,
+                        post.id, post.title, post.commentCount, QMember.member.username, post.createdAt, lastCommentId))
+                .from(comment)
+                .join(comment.post, post)
+                .leftJoin(post.member, QMember.member)
+                .where(comment.member.eq(member))
+                .where(comment.isEnabled.eq(true))
+                .where(post.isEnabled.eq(true))
+                .groupBy(post.id, post.title, post.commentCount, QMember.member.username, post.createdAt)
+                .orderBy(lastCommentId.desc());
+    }
+
+    //커서가 없으면 조건을 걸지 않음 (가장 최신글부터 조회)
+    private BooleanExpression postIdLessThan(Long beforeId) {
+        return beforeId != null ? post.id.lt(beforeId) : null;
+    }
+
+    private BooleanExpression lastCommentIdLessThan(Long beforeCommentId) {
+        return beforeCommentId != null ? comment.id.max().lt(beforeCommentId) : null;
+    }
+
     private Long getOffset(int page) {
         return (page - 1) * 20L;
     }
@@ -0,0 +1,63 @@
+package com.portfolio.repository.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * 한 요청 안에서 이미 조회한 엔티티를 다시 조회하지 않고 재사용하기 위한 Class
+ * Validator 가 검증하면서 조회한 글, 댓글, 회원을 Service 에서 SELECT 없이 그대로 사용함
+ * 요청 밖 (별도 스레드, Service 직접 호출) 에서는 항상 조회하고, 영속성 컨텍스트에 없는 엔티티는 다시 조회함
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityLookup {
+
+    private static final String ATTRIBUTE = EntityLookup.class.getName();
+
+    private final EntityManager entityManager;
+
+    /** 같은 요청에서 같은 타입, 같은 키로 조회한 엔티티가 있으면 재사용 (조회 결과가 null 이면 저장하지 않음) */
+    public <K, T> T get(Class<T> type, K key, Function<K, T> loader) {
+        Map<List<Object>, Object> entities = requestEntities();
+        if (entities == null) {
+            return loader.apply(key);
+        }
+
+        List<Object> cacheKey = List.of(type, key);
+        Object cached = entities.get(cacheKey);
+        if (cached != null && entityManager.contains(cached)) {
+            return type.cast(cached);
+        }
+
+        T entity = loader.apply(key);
+        if (entity != null) {
+            entities.put(cacheKey, entity);
+        }
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<List<Object>, Object> requestEntities() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<List<Object>, Object> entities = (Map<List<Object>, Object>) attributes.getAttribute(ATTRIBUTE, SCOPE_REQUEST);
+        if (entities == null) {
+            entities = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, entities, SCOPE_REQUEST);
+        }
+        return entities;
+    }
+}
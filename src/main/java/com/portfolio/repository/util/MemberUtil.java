@@ -4,7 +4,10 @@ import com.portfolio.domain.Board;
 import com.portfolio.domain.Member;
 import com.portfolio.exception.custom.*;
 import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.security.service.CustomUser;
+import com.portfolio.security.service.RevokedMembers;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -19,11 +22,46 @@ public class MemberUtil {
 
     private final MemberRepository memberRepository;
 
+    private final EntityLookup entityLookup;
+
+    private final RevokedMembers revokedMembers;
+
+    /**
+     * 로그인한 회원의 번호 (회원을 조회하지 않고 로그인시 CustomUser 에 저장된 번호 사용)
+     * 로그인 정보가 CustomUser 가 아닌 경우에만 회원 번호를 조회하고, 로그인 후 탈퇴, 강퇴된 회원은 예외 발생
+     */
+    public Long getContextMemberId() {
+        Long memberId = findContextMemberId();
+        if (memberId == null) {
+            throw new CustomNotFoundException(MEMBER_NOT_FOUND);
+        }
+        return memberId;
+    }
+
+    //회원이 없거나 탈퇴, 강퇴된 경우 null
+    public Long findContextMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AuthenticationFailedException();
+        }
+
+        Long memberId = authentication.getPrincipal() instanceof CustomUser ?
+                ((CustomUser) authentication.getPrincipal()).getMemberId() :
+                memberRepository.findActiveMemberIdByUsername(authentication.getName());
+        return memberId == null || revokedMembers.isRevoked(memberId) ? null : memberId;
+    }
+
+    /** 로그인한 회원의 프록시 (외래 키로만 사용하는 경우, 회원을 조회하지 않음) */
+    public Member getContextMemberReference() {
+        return memberRepository.getReferenceById(getContextMemberId());
+    }
+
+    //회원 정보가 필요한 경우 조회, 같은 요청 안에서는 한번만 조회 (Validator 에서 조회한 회원을 Service 에서 재사용)
     public Member getContextMember() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null) {
             String username = authentication.getName();
-            return memberRepository.findActiveMemberByUsername(username);
+            return entityLookup.get(Member.class, username, memberRepository::findActiveMemberByUsername);
         } else {
             throw new AuthenticationFailedException();
         }
@@ -40,6 +78,12 @@ public class MemberUtil {
         return authentication != null ? authentication.getName() : "";
     }
 
+    /** 로그인한 사용자인지 확인 (로그인하지 않은 사용자는 anonymousUser 로 인증됨) */
+    public static boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication instanceof AnonymousAuthenticationToken == false;
+    }
+
     /** 현재 접속중인 사용자가 관리자인지 확인 */
     public static Boolean isAdmin() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -0,0 +1,25 @@
+package com.portfolio.repository.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** 트랜잭션 관련 Util Class */
+public class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /** 현재 트랜잭션이 커밋된 후에 실행 (트랜잭션이 없으면 바로 실행, 롤백되면 실행하지 않음) */
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive() == false) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
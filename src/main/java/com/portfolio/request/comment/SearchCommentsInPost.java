@@ -3,8 +3,10 @@ package com.portfolio.request.comment;
 
 import lombok.Getter;
 
+import static com.portfolio.request.validator.ConvertingStringValidator.convertCursor;
 import static com.portfolio.request.validator.ConvertingStringValidator.convertPage;
 import static com.portfolio.request.validator.ConvertingStringValidator.convertPostId;
+import static com.portfolio.request.validator.ConvertingStringValidator.convertSize;
 
 @Getter
 public class SearchCommentsInPost {
@@ -13,8 +15,16 @@ public class SearchCommentsInPost {
 
     private Integer page;
 
-    public SearchCommentsInPost(String id, String page) {
+    /** 커서 기반 조회시 댓글을 몇개 단위로 조회할 것인지 */
+    private Integer size;
+
+    /** 커서 기반 조회시 이 댓글 번호보다 큰 번호의 댓글부터 조회 (null 이면 가장 먼저 작성된 댓글부터 조회) */
+    private Long afterId;
+
+    public SearchCommentsInPost(String id, String page, String size, String afterId) {
         this.id = convertPostId(id);
         this.page = convertPage(page);
+        this.size = convertSize(size);
+        this.afterId = convertCursor(afterId);
     }
 }
@@ -0,0 +1,27 @@
+package com.portfolio.request.comment;
+
+import lombok.Getter;
+
+import static com.portfolio.request.validator.ConvertingStringValidator.convertCommentId;
+import static com.portfolio.request.validator.ConvertingStringValidator.convertCursor;
+import static com.portfolio.request.validator.ConvertingStringValidator.convertSize;
+
+/** 특정 댓글에 달린 대댓글 커서 기반 조회용 Class */
+@Getter
+public class SearchReplies {
+
+    /** 부모 댓글 번호 */
+    private Long parentId;
+
+    /** 대댓글을 몇개 단위로 조회할 것인지 */
+    private Integer size;
+
+    /** 이 대댓글 번호보다 큰 번호의 대댓글부터 조회 (null 이면 가장 먼저 작성된 대댓글부터 조회) */
+    private Long afterId;
+
+    public SearchReplies(String parentId, String size, String afterId) {
+        this.parentId = convertCommentId(parentId);
+        this.size = convertSize(size);
+        this.afterId = convertCursor(afterId);
+    }
+}
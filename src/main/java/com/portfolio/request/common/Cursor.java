@@ -0,0 +1,24 @@
+package com.portfolio.request.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import static com.portfolio.request.validator.ConvertingStringValidator.convertCursor;
+import static com.portfolio.request.validator.ConvertingStringValidator.convertSize;
+
+/** 커서 기반 페이징 조회용 Class */
+@Getter
+public class Cursor {
+
+    /** 이 글 번호보다 작은 번호의 글부터 조회 (null 이면 가장 최신글부터 조회) */
+    private Long beforeId;
+
+    /** 글을 몇개 단위로 조회할 것인지 */
+    private Integer size;
+
+    @Builder
+    public Cursor(String beforeId, String size) {
+        this.beforeId = convertCursor(beforeId);
+        this.size = convertSize(size);
+    }
+}
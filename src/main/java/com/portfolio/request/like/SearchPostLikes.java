@@ -0,0 +1,22 @@
+package com.portfolio.request.like;
+
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.portfolio.request.validator.ConvertingStringValidator.convertPostIds;
+
+/** 여러 글의 좋아요 수와 내가 좋아요를 눌렀는지 한번에 조회 */
+@Getter
+public class SearchPostLikes {
+
+    //한번에 조회할수 있는 글 수
+    public static final int MAX_POSTS = 100;
+
+    /** 조회할 글 번호 목록 (쉼표로 구분, 중복 제거) */
+    private List<Long> postIds;
+
+    public SearchPostLikes(String postIds) {
+        this.postIds = convertPostIds(postIds);
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.request.member;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@NoArgsConstructor
+public class RefreshToken {
+
+    //로그인시 발급받은 refresh 토큰
+    @NotBlank(message = "refresh 토큰을 입력해주세요")
+    private String refreshToken;
+
+    @Builder
+    public RefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
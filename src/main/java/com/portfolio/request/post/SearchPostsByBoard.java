@@ -3,6 +3,7 @@ package com.portfolio.request.post;
 import lombok.Getter;
 
 
+import static com.portfolio.request.validator.ConvertingStringValidator.convertCursor;
 import static com.portfolio.request.validator.ConvertingStringValidator.convertPage;
 import static com.portfolio.request.validator.ConvertingStringValidator.convertSize;
 import static java.lang.Math.*;
@@ -20,10 +21,14 @@ public class SearchPostsByBoard {
     /** 글을 몇개 단위로 페이징 할것인지 */
     private Integer size;
 
-    public SearchPostsByBoard(String board, String page, String size) {
+    /** 커서 기반 조회시 이 글 번호보다 작은 번호의 글부터 조회 (null 이면 가장 최신글부터 조회) */
+    private Long beforeId;
+
+    public SearchPostsByBoard(String board, String page, String size, String beforeId) {
         this.board = board;
         this.page = convertPage(page);
         this.size = convertSize(size);
+        this.beforeId = convertCursor(beforeId);
     }
 
     public long getOffset() {
@@ -2,6 +2,11 @@ package com.portfolio.request.validator;
 
 import com.portfolio.exception.custom.CustomNotFoundException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.portfolio.exception.custom.CustomNotFoundException.COMMENT_NOT_FOUND;
 import static com.portfolio.exception.custom.CustomNotFoundException.POST_NOT_FOUND;
 import static com.portfolio.request.post.SearchPostsByBoard.MAX_SIZE;
@@ -28,6 +33,24 @@ public class ConvertingStringValidator {
         }
     }
 
+    /** String "1,2,3" ==> List [1, 2, 3] 로 변환 (숫자 형식이 아니거나 0 이하인 값은 제외, 중복 제거) */
+    public static List<Long> convertPostIds(String postIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (postIds == null) {
+            return new ArrayList<>(ids);
+        }
+        for (String postId : postIds.split(",")) {
+            try {
+                long id = Long.parseLong(postId.trim());
+                if (id > 0) {
+                    ids.add(id);
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
 
     /** 페이징 처리시 페이지 처리
      * page 가 정상적인 숫자 형식 아닐경우 1 return
@@ -57,4 +80,16 @@ public class ConvertingStringValidator {
             return 20;
         }
     }
+
+    /** 커서 기반 페이징 처리시 기준이 되는 글 번호 처리
+     *  정상적인 숫자 형식이 아니거나 음수, 0일 경우 null return (가장 최신글부터 조회)
+     */
+    public static Long convertCursor(String cursor) {
+        try {
+            long id = Long.parseLong(cursor);
+            return id > 0 ? id : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.portfolio.domain.Post;
 import com.portfolio.exception.custom.CustomBadRequestException;
 import com.portfolio.exception.custom.CustomNotFoundException;
 import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.util.EntityLookup;
 import com.portfolio.repository.post.PostRepository;
 import com.portfolio.request.comment.CreateChildComment;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import static com.portfolio.exception.custom.CustomNotFoundException.*;
 public class CreateChildCommentValidator implements Validator {
 
     private final CommentRepository commentRepository;
+    private final EntityLookup entityLookup;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -32,7 +34,7 @@ public class CreateChildCommentValidator implements Validator {
 
         if (request.getParentCommentId() != null) {
 
-            Comment comment = commentRepository.findCommentWithPostById(request.getParentCommentId());
+            Comment comment = entityLookup.get(Comment.class, request.getParentCommentId(), commentRepository::findCommentWithPostById);
 
             if (comment == null || comment.getIsEnabled() == false) {
                 throw new CustomNotFoundException(COMMENT_NOT_FOUND);
@@ -4,6 +4,7 @@ import com.portfolio.domain.Post;
 import com.portfolio.exception.custom.CustomBadRequestException;
 import com.portfolio.exception.custom.CustomNotFoundException;
 import com.portfolio.repository.post.PostRepository;
+import com.portfolio.repository.util.EntityLookup;
 import com.portfolio.request.comment.CreateComment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,6 +19,7 @@ import static com.portfolio.exception.custom.CustomNotFoundException.*;
 public class CreateCommentValidator implements Validator {
 
     private final PostRepository postRepository;
+    private final EntityLookup entityLookup;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -28,7 +30,7 @@ public class CreateCommentValidator implements Validator {
     public void validate(Object target, Errors errors) {
         CreateComment request = (CreateComment) target;
         if (request.getPostId() != null) {
-            Post post = postRepository.findPostById(request.getPostId());
+            Post post = entityLookup.get(Post.class, request.getPostId(), postRepository::findPostById);
 
             if (post == null) {
                 throw new CustomNotFoundException(POST_NOT_FOUND);
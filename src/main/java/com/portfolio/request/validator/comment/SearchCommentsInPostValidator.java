@@ -3,6 +3,7 @@ package com.portfolio.request.validator.comment;
 import com.portfolio.domain.Post;
 import com.portfolio.exception.custom.CustomNotFoundException;
 import com.portfolio.repository.post.PostRepository;
+import com.portfolio.repository.util.EntityLookup;
 import com.portfolio.request.comment.SearchCommentsInPost;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,6 +17,7 @@ import static com.portfolio.exception.custom.CustomNotFoundException.*;
 public class SearchCommentsInPostValidator implements Validator {
 
     private final PostRepository postRepository;
+    private final EntityLookup entityLookup;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -25,7 +27,7 @@ public class SearchCommentsInPostValidator implements Validator {
     @Override
     public void validate(Object target, Errors errors) {
         SearchCommentsInPost request = (SearchCommentsInPost) target;
-        Post post = postRepository.findPostById(request.getId());
+        Post post = entityLookup.get(Post.class, request.getId(), postRepository::findPostById);
 
         if (post == null) {
             throw new CustomNotFoundException(POST_NOT_FOUND);
@@ -0,0 +1,39 @@
+package com.portfolio.request.validator.comment;
+
+import com.portfolio.domain.Comment;
+import com.portfolio.exception.custom.CustomNotFoundException;
+import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.request.comment.SearchReplies;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import static com.portfolio.exception.custom.CustomNotFoundException.*;
+
+@Component
+@RequiredArgsConstructor
+public class SearchRepliesValidator implements Validator {
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return clazz.isAssignableFrom(SearchReplies.class);
+    }
+
+    //대댓글이 아닌 댓글만 부모 댓글이 될 수 있음 (Soft Delete 처리된 댓글의 대댓글은 조회 가능)
+    //삭제된 글에 달린 댓글의 대댓글은 조회 불가
+    @Override
+    public void validate(Object target, Errors errors) {
+        SearchReplies request = (SearchReplies) target;
+        Comment comment = commentRepository.findCommentWithPostById(request.getParentId());
+
+        if (comment == null || comment.getParent() != null) {
+            throw new CustomNotFoundException(COMMENT_NOT_FOUND);
+        }
+        if (comment.getPost().getIsEnabled() == false) {
+            throw new CustomNotFoundException(POST_NOT_FOUND);
+        }
+    }
+}
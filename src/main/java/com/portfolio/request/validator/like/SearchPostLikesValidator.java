@@ -0,0 +1,32 @@
+package com.portfolio.request.validator.like;
+
+import com.portfolio.exception.custom.CustomBadRequestException;
+import com.portfolio.request.like.SearchPostLikes;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import static com.portfolio.exception.custom.CustomBadRequestException.POST_IDS_NOT_PROVIDED;
+import static com.portfolio.exception.custom.CustomBadRequestException.TOO_MANY_POST_IDS;
+import static com.portfolio.request.like.SearchPostLikes.MAX_POSTS;
+
+@Component
+public class SearchPostLikesValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return clazz.isAssignableFrom(SearchPostLikes.class);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        SearchPostLikes request = (SearchPostLikes) target;
+
+        if (request.getPostIds().isEmpty()) {
+            throw new CustomBadRequestException(POST_IDS_NOT_PROVIDED);
+        }
+        if (request.getPostIds().size() > MAX_POSTS) {
+            throw new CustomBadRequestException(TOO_MANY_POST_IDS);
+        }
+    }
+}
@@ -36,12 +36,12 @@ public class SignUpValidator implements Validator {
             if (password.equals(passwordConfirm) == false) {
                 throw new CustomBadRequestException(NOT_MATCHES_PASSWORD_CONFIRM);
             }
-            /** 입력한 아이디가 이미 사용중인 경우 */
-            if (memberRepository.existsByUsername(username)) {
+            /** 입력한 아이디가 이미 사용중인 경우 (대소문자 구분 없음) */
+            if (memberRepository.isUsernameTaken(username)) {
                 throw new CustomBadRequestException(DUPLICATED_USERNAME);
             }
-            /** 입력한 이메일이 이미 사용중인 경우 */
-            if (memberRepository.existsByEmail(email)) {
+            /** 입력한 이메일이 이미 사용중인 경우 (대소문자 구분 없음) */
+            if (memberRepository.isEmailTaken(email)) {
                 throw new CustomBadRequestException(DUPLICATED_EMAIL);
             }
         }
@@ -1,7 +1,7 @@
 package com.portfolio.request.validator.post;
 
 import com.portfolio.exception.custom.CustomNotFoundException;
-import com.portfolio.repository.board.BoardRepository;
+import com.portfolio.repository.board.BoardRegistry;
 import com.portfolio.request.post.CreatePost;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,7 +14,7 @@ import static com.portfolio.exception.custom.CustomNotFoundException.*;
 @Component
 public class CreatePostValidator implements Validator {
 
-    private final BoardRepository boardRepository;
+    private final BoardRegistry boardRegistry;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -26,7 +26,7 @@ public class CreatePostValidator implements Validator {
         CreatePost request = (CreatePost) target;
 
         if (request.getBoardName() != null &&
-                boardRepository.existsByBoardName(request.getBoardName()) == false) {
+                boardRegistry.exists(request.getBoardName()) == false) {
 
             throw new CustomNotFoundException(BOARD_NOT_FOUND);
         }
@@ -1,7 +1,7 @@
 package com.portfolio.request.validator.post;
 
 import com.portfolio.exception.custom.CustomNotFoundException;
-import com.portfolio.repository.board.BoardRepository;
+import com.portfolio.repository.board.BoardRegistry;
 import com.portfolio.request.post.SearchPostsByBoard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,7 +14,7 @@ import static com.portfolio.exception.custom.CustomNotFoundException.*;
 @RequiredArgsConstructor
 public class SearchPostsByBoardValidator implements Validator {
 
-    private final BoardRepository boardRepository;
+    private final BoardRegistry boardRegistry;
 
     @Override
     public boolean supports(Class<?> clazz) {
@@ -25,8 +25,7 @@ public class SearchPostsByBoardValidator implements Validator {
     public void validate(Object target, Errors errors) {
         SearchPostsByBoard request = (SearchPostsByBoard) target;
 
-        if (boardRepository
-                .existsByBoardName(request.getBoard()) == false) {
+        if (boardRegistry.exists(request.getBoard()) == false) {
             throw new CustomNotFoundException(BOARD_NOT_FOUND);
         }
     }
@@ -0,0 +1,57 @@
+package com.portfolio.response.comment;
+
+import com.portfolio.domain.Comment;
+import com.portfolio.repository.comment.CommentOwnership;
+import lombok.Getter;
+
+@Getter
+/** 특정 글에 달린 댓글의 작성, 수정, 삭제 이벤트에 대한 Response (CommentStream 으로 전달) */
+public class CommentEvent {
+
+    public static final String CREATED = "created";
+    public static final String EDITED = "edited";
+    public static final String DELETED = "deleted";
+
+    //이벤트 종류 (created, edited, deleted)
+    private final String type;
+
+    //댓글 번호
+    private final Long commentId;
+
+    //부모 댓글의 댓글 번호 (댓글이면 null)
+    private final Long parentCommentId;
+
+    //작성자
+    private final String username;
+
+    //댓글 내용 (삭제 이벤트이면 null)
+    private final String content;
+
+    private CommentEvent(String type, Long commentId, Long parentCommentId, String username, String content) {
+        this.type = type;
+        this.commentId = commentId;
+        this.parentCommentId = parentCommentId;
+        this.username = username;
+        this.content = content;
+    }
+
+    //댓글의 작성자는 프록시이므로 회원을 조회하지 않도록 로그인한 회원 이름을 전달받음
+    public static CommentEvent created(Comment comment, String username) {
+        return new CommentEvent(CREATED, comment.getId(), comment.getParent() == null ? null : comment.getParent().getId(),
+                username, comment.getContent());
+    }
+
+    //CommentBatchWriter 로 저장된 댓글 (엔티티 없이 저장되며 대댓글은 해당하지 않음)
+    public static CommentEvent created(Long commentId, String username, String content) {
+        return new CommentEvent(CREATED, commentId, null, username, content);
+    }
+
+    //수정, 삭제는 엔티티를 조회하지 않고 처리되므로 권한 확인시 조회한 컬럼으로 생성
+    public static CommentEvent edited(CommentOwnership comment, String content) {
+        return new CommentEvent(EDITED, comment.getCommentId(), comment.getParentId(), comment.getUsername(), content);
+    }
+
+    public static CommentEvent deleted(CommentOwnership comment) {
+        return new CommentEvent(DELETED, comment.getCommentId(), comment.getParentId(), comment.getUsername(), null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.response.comment;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+/** 댓글 실시간 전달(SSE) 현황에 대한 Response */
+public class CommentStreamStatsResponse {
+
+    //구독자가 있는 글 수
+    private final Integer channels;
+
+    //현재 구독자 수
+    private final Integer subscribers;
+
+    //발생한 이벤트 수 (구독자가 없는 글의 이벤트 포함)
+    private final Long published;
+
+    //구독자에게 전송한 이벤트 수
+    private final Long delivered;
+
+    //전송 대기 이벤트가 넘쳐 버려진 이벤트 수
+    private final Long droppedEvents;
+
+    //전송 대기 이벤트가 넘치거나 쓰기가 막혀 연결을 끊은 구독자 수
+    private final Long droppedSubscribers;
+
+    //글별, 전체 구독자 수 제한을 넘어 거부한 구독 요청 수
+    private final Long rejectedSubscribers;
+
+    @Builder
+    public CommentStreamStatsResponse(Integer channels, Integer subscribers, Long published, Long delivered,
+                                      Long droppedEvents, Long droppedSubscribers, Long rejectedSubscribers) {
+        this.channels = channels;
+        this.subscribers = subscribers;
+        this.published = published;
+        this.delivered = delivered;
+        this.droppedEvents = droppedEvents;
+        this.droppedSubscribers = droppedSubscribers;
+        this.rejectedSubscribers = rejectedSubscribers;
+    }
+}
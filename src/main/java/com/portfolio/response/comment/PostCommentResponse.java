@@ -2,12 +2,11 @@ package com.portfolio.response.comment;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.portfolio.domain.Comment;
+import com.portfolio.response.common.CursorResponse;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.fasterxml.jackson.annotation.JsonFormat.Shape.*;
 import static com.portfolio.repository.util.MemberUtil.getAuthenticatedUsername;
@@ -38,20 +37,29 @@ public class PostCommentResponse {
     @JsonFormat(shape = STRING, pattern = "MM.dd HH:mm:ss")
     private final LocalDateTime lastModifiedDate;
 
-    //해당 댓글에 달린 대댓글들
+    //해당 댓글에 달린 대댓글들 (CommentThreadLoader.REPLY_PAGE_SIZE 개 까지)
     private final List<ChildCommentResponse> childComments;
 
+    //이어서 조회할 대댓글이 있으면 /comments/replies 의 afterId 로 전달할 값 (없으면 null)
+    private final Long nextReplyCursor;
+
+    //이어서 조회할 대댓글이 존재하는지 여부
+    private final Boolean hasMoreReplies;
+
     private final Boolean isAdmin;
 
 
-    public PostCommentResponse(Comment comment) {
+    /** 대댓글은 부모 댓글들과 별도로 일괄 조회해 전달 받음 (CommentThreadLoader) */
+    public PostCommentResponse(Comment comment, CursorResponse<ChildCommentResponse> replies) {
         this.isEnabled = comment.getIsEnabled();
         this.id = comment.getId();
         this.content = getContent(comment);
         this.username = comment.getMember().getUsername();
         this.isMyComment = comment.getMember().getUsername().equals(getAuthenticatedUsername());
         this.lastModifiedDate = comment.getLastModifiedDate();
-        this.childComments = loadChildComments(comment);
+        this.childComments = replies.getContent();
+        this.nextReplyCursor = replies.getNextCursor();
+        this.hasMoreReplies = replies.getHasNext();
         this.isAdmin = isAdmin();
     }
 
@@ -60,18 +68,4 @@ public class PostCommentResponse {
         return comment.getIsEnabled() == true ? comment.getContent() : "삭제된 댓글입니다";
     }
 
-    // 해당 댓글에 대댓글이 없는경우 빈 ArrayList 반환
-    private static List<ChildCommentResponse> loadChildComments(Comment comment) {
-        return comment.getChilds().isEmpty() == true ?
-                new ArrayList<>() : getChildCommentList(comment);
-    }
-
-
-    // 해당 댓글에 대댓글들이 여러개 존재할떄, 그중에 Soft Delete 처리가 되지 않은 것들만 조회
-    private static List<ChildCommentResponse> getChildCommentList(Comment comment) {
-        return comment.getChilds().stream()
-                .filter(c -> c.getIsEnabled() == true).map(ChildCommentResponse::new)
-                .collect(Collectors.toList());
-    }
-
 }
@@ -0,0 +1,38 @@
+package com.portfolio.response.common;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+/** 커서 기반 페이징 조회에 대한 Response */
+public class CursorResponse<T> {
+
+    //조회된 목록
+    private final List<T> content;
+
+    //다음 목록 조회시 beforeId 로 전달할 값 (더 이상 조회할 목록이 없으면 null)
+    private final Long nextCursor;
+
+    //다음 목록이 존재하는지 여부
+    private final Boolean hasNext;
+
+    private CursorResponse(List<T> content, Long nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * 다음 목록 존재 여부를 확인하기 위해 size + 1 개를 조회한 목록을 받아
+     * size 개 까지만 담고, 마지막 항목의 번호를 다음 커서로 사용
+     */
+    public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        if (fetched.size() <= size) {
+            return new CursorResponse<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorResponse<>(content, idExtractor.apply(content.get(size - 1)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.portfolio.response.like;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+/** 회원별 좋아요 누른 글 비트맵 (LikedPostIndex) 현황에 대한 Response */
+public class LikedPostIndexStatsResponse {
+
+    //비트맵을 보관중인 회원 수
+    private final Integer members;
+
+    //비트맵에 담긴 좋아요 수 (모든 회원 합계)
+    private final Long likedPosts;
+
+    //비트맵이 차지하는 메모리 크기 (byte, 모든 회원 합계)
+    private final Long sizeInBytes;
+
+    //비트맵으로 확인한 횟수
+    private final Long hits;
+
+    //좋아요 테이블에서 비트맵을 읽어온 횟수
+    private final Long misses;
+
+    //보관 인원을 넘어 제거된 회원 수
+    private final Long evictions;
+
+    @Builder
+    public LikedPostIndexStatsResponse(Integer members, Long likedPosts, Long sizeInBytes, Long hits, Long misses,
+                                       Long evictions) {
+        this.members = members;
+        this.likedPosts = likedPosts;
+        this.sizeInBytes = sizeInBytes;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+}
@@ -0,0 +1,22 @@
+package com.portfolio.response.like;
+
+import lombok.Getter;
+
+@Getter
+/** 여러 글의 좋아요 일괄 조회시 글 하나에 대한 Response */
+public class PostLikeStatusResponse {
+
+    private final Long postId;
+
+    // 글에 달린 총 좋아요 개수
+    private final Long totalLikes;
+
+    // 내가 좋아요를 눌렀는지 여부
+    private final Boolean likedPost;
+
+    public PostLikeStatusResponse(Long postId, Long totalLikes, Boolean likedPost) {
+        this.postId = postId;
+        this.totalLikes = totalLikes;
+        this.likedPost = likedPost;
+    }
+}
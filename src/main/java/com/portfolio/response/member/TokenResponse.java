@@ -0,0 +1,23 @@
+package com.portfolio.response.member;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+/** 토큰 방식 로그인, 토큰 재발급 Response */
+public class TokenResponse {
+
+    private final String username;
+
+    // 요청마다 Authorization: Bearer 헤더로 보내는 토큰
+    private final String accessToken;
+
+    // access 토큰이 만료되면 재발급에 사용하는 토큰 (한번만 사용할수 있음)
+    private final String refreshToken;
+
+    private final String tokenType = "Bearer";
+
+    // access 토큰 만료까지 남은 시간 (초)
+    private final long expiresIn;
+}
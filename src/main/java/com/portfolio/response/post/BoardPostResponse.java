@@ -1,14 +1,10 @@
 package com.portfolio.response.post;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.portfolio.domain.Post;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
-import static com.portfolio.domain.Post.loadCommentCount;
-
-
 @Getter
 /** 특정 게시판에 작성된 단건 글에 대한 Response */
 public class BoardPostResponse {
@@ -25,23 +21,30 @@ public class BoardPostResponse {
     //글 작성자
     private final String username;
 
-    //글에 달린 총 댓글수 (Soft Delete 처리된 댓글의 수는 포함되지 않음)
+    //글에 달린 총 댓글수 (Soft Delete 처리된 댓글의 수는 포함되지 않음, post.comment_count 컬럼)
     private final Integer totalComments;
 
-    //글에 달린 총 졸아요수
+    //글에 달린 총 졸아요수 (post.like_count 컬럼)
     private final Integer totalLikes;
 
     //생성 날짜
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private final LocalDateTime createdAt;
 
-    public BoardPostResponse(Post post) {
-        this.nickname = post.getBoard().getNickname();
-        this.postId = post.getId();
-        this.title = post.getTitle();
-        this.username = post.getMember().getUsername();
-        this.totalComments = loadCommentCount(post);
-        this.totalLikes = post.getLikes().size();
-        this.createdAt = post.getCreatedAt();
+    /** Projections.constructor 로 필요한 컬럼만 조회해 바로 생성 */
+    public BoardPostResponse(String nickname, Long postId, String title, String username,
+                             Integer totalComments, Integer totalLikes, LocalDateTime createdAt) {
+        this.nickname = nickname;
+        this.postId = postId;
+        this.title = title;
+        this.username = username;
+        this.totalComments = totalComments;
+        this.totalLikes = totalLikes;
+        this.createdAt = createdAt;
+    }
+
+    //좋아요수만 바꾼 새 Response 생성
+    public BoardPostResponse withTotalLikes(Integer totalLikes) {
+        return new BoardPostResponse(nickname, postId, title, username, totalComments, totalLikes, createdAt);
     }
 }
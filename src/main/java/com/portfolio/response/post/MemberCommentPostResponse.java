@@ -1,13 +1,10 @@
 package com.portfolio.response.post;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.portfolio.domain.Post;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
-import static com.portfolio.domain.Post.loadCommentCount;
-
 @Getter
 /** 특정 회원이 댓글을 작성한 단건글에 대한 Response */
 public class MemberCommentPostResponse {
@@ -28,11 +25,17 @@ public class MemberCommentPostResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private final LocalDateTime createdAt;
 
-    public MemberCommentPostResponse(Post post) {
-        this.postId = post.getId();
-        this.title = post.getTitle();
-        this.totalComments = loadCommentCount(post);
-        this.writer = post.getMember().getUsername();
-        this.createdAt = post.getCreatedAt();
+    //이 글에 회원이 마지막으로 작성한 댓글 번호 (커서 기반 조회시 beforeId 로 사용)
+    private final Long lastCommentId;
+
+    /** Projections.constructor 로 필요한 컬럼만 조회해 바로 생성 */
+    public MemberCommentPostResponse(Long postId, String title, Integer totalComments, String writer,
+                                     LocalDateTime createdAt, Long lastCommentId) {
+        this.postId = postId;
+        this.title = title;
+        this.totalComments = totalComments;
+        this.writer = writer;
+        this.createdAt = createdAt;
+        this.lastCommentId = lastCommentId;
     }
 }
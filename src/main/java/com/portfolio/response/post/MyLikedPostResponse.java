@@ -1,13 +1,10 @@
 package com.portfolio.response.post;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.portfolio.domain.Post;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
-import static com.portfolio.domain.Post.loadCommentCount;
-
 @Getter
 /** 내가 좋아요 누른 단건 글에 대한 Response */
 public class MyLikedPostResponse {
@@ -28,11 +25,13 @@ public class MyLikedPostResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private final LocalDateTime createdAt;
 
-    public MyLikedPostResponse(Post post) {
-        this.postId = post.getId();
-        this.title = post.getTitle();
-        this.writer = post.getMember().getUsername();
-        this.totalComments = loadCommentCount(post);
-        this.createdAt = post.getCreatedAt();
+    /** Projections.constructor 로 필요한 컬럼만 조회해 바로 생성 */
+    public MyLikedPostResponse(Long postId, String title, String writer, Integer totalComments,
+                               LocalDateTime createdAt) {
+        this.postId = postId;
+        this.title = title;
+        this.writer = writer;
+        this.totalComments = totalComments;
+        this.createdAt = createdAt;
     }
 }
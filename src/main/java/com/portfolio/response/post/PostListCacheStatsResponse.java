@@ -0,0 +1,37 @@
+package com.portfolio.response.post;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+/** 글 목록 캐시 현황에 대한 Response */
+public class PostListCacheStatsResponse {
+
+    //캐싱된 페이지 수
+    private final Integer size;
+
+    //캐시에서 응답한 횟수
+    private final Long hits;
+
+    //DB 를 조회한 횟수 (캐싱 대상 페이지만 포함)
+    private final Long misses;
+
+    //캐시 크기를 넘어 제거된 페이지 수
+    private final Long evictions;
+
+    //글, 댓글, 좋아요 변경으로 제거된 페이지 수
+    private final Long invalidations;
+
+    //캐시 적중률 (0 ~ 1)
+    private final Double hitRatio;
+
+    @Builder
+    public PostListCacheStatsResponse(Integer size, Long hits, Long misses, Long evictions, Long invalidations) {
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+}
@@ -1,12 +1,9 @@
 package com.portfolio.response.post;
 
-import com.portfolio.domain.Post;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
-import static com.portfolio.domain.Post.loadCommentCount;
-
 @Getter
 /** 전체글 조회시 글 단건에 대한 Response */
 public class PostResponse {
@@ -20,7 +17,7 @@ public class PostResponse {
     //글 제목
     private final String title;
 
-    //총 댓글 (Soft Delete 처리된 댓글은 포함되지 않음)
+    //총 댓글 (Soft Delete 처리된 댓글은 포함되지 않음, post.comment_count 컬럼)
     private final Integer totalComments;
 
     //작성자
@@ -29,12 +26,14 @@ public class PostResponse {
     //작성일
     private final LocalDateTime createdAt;
 
-    public PostResponse(Post post) {
-        this.postId = post.getId();
-        this.nickname = post.getBoard().getNickname();
-        this.title = post.getTitle();
-        this.totalComments = loadCommentCount(post);
-        this.writer = post.getMember().getUsername();
-        this.createdAt = post.getCreatedAt();
+    /** Projections.constructor 로 필요한 컬럼만 조회해 바로 생성 */
+    public PostResponse(Long postId, String nickname, String title, Integer totalComments,
+                         String writer, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.nickname = nickname;
+        this.title = title;
+        this.totalComments = totalComments;
+        this.writer = writer;
+        this.createdAt = createdAt;
     }
 }
@@ -4,6 +4,8 @@ import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.modelmapper.convention.NameTokenizers;
 import org.modelmapper.spi.MatchingStrategy;
+import com.portfolio.security.service.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -12,8 +14,14 @@ import org.springframework.stereotype.Component;
 @Component
 public class AppConfig {
 
+    /** threads 가 0 이하이면 CPU 코어 수의 절반 (최소 1) */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hash.threads:0}") int threads,
+                                           @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                                           @Value("${password.hash.max-queue-ms:2000}") long maxQueueMillis) {
+        if (threads <= 0) {
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, maxQueueMillis);
     }
 }
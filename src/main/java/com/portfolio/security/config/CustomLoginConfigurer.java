@@ -1,6 +1,7 @@
 package com.portfolio.security.config;
 
 import com.portfolio.security.handler.filter.CustomLoginProcessingFilter;
+import com.portfolio.security.service.LoginAttemptLimiter;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
 import org.springframework.security.config.annotation.web.configurers.AbstractAuthenticationFilterConfigurer;
@@ -19,6 +20,7 @@ public final class CustomLoginConfigurer<H extends HttpSecurityBuilder<H>> exten
     private AuthenticationSuccessHandler successHandler;
     private AuthenticationFailureHandler failureHandler;
     private AuthenticationManager authenticationManager;
+    private LoginAttemptLimiter loginAttemptLimiter;
 
 
     public CustomLoginConfigurer() {
@@ -40,6 +42,7 @@ public final class CustomLoginConfigurer<H extends HttpSecurityBuilder<H>> exten
         getAuthenticationFilter().setAuthenticationSuccessHandler(successHandler);
         getAuthenticationFilter().setAuthenticationFailureHandler(failureHandler);
         getAuthenticationFilter().setFilterProcessesUrl("/api/login");
+        getAuthenticationFilter().setLoginAttemptLimiter(loginAttemptLimiter);
         SessionAuthenticationStrategy sessionAuthenticationStrategy = http
                 .getSharedObject(SessionAuthenticationStrategy.class);
         if (sessionAuthenticationStrategy != null) {
@@ -70,6 +73,11 @@ public final class CustomLoginConfigurer<H extends HttpSecurityBuilder<H>> exten
         return this;
     }
 
+    public CustomLoginConfigurer<H> loginAttemptLimiter(LoginAttemptLimiter loginAttemptLimiter) {
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        return this;
+    }
+
     @Override
     protected RequestMatcher createLoginProcessingUrlMatcher(String loginProcessingUrl) {
         return new AntPathRequestMatcher(loginProcessingUrl, "POST");
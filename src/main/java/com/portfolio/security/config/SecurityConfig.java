@@ -5,8 +5,13 @@ import com.portfolio.security.handler.CustomAccessDeniedHandler;
 import com.portfolio.security.handler.CustomAuthenticationFailureHandler;
 import com.portfolio.security.handler.CustomAuthenticationSuccessHandler;
 import com.portfolio.security.handler.CustomLogoutSuccessHandler;
+import com.portfolio.security.handler.TokenAuthenticationSuccessHandler;
+import com.portfolio.security.handler.TokenLogoutHandler;
+import com.portfolio.security.handler.filter.TokenAuthenticationFilter;
 import com.portfolio.security.provider.CustomAuthenticationProvider;
 import com.portfolio.security.service.CustomUserDetailsService;
+import com.portfolio.security.service.LoginAttemptLimiter;
+import com.portfolio.security.token.SignedTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
@@ -16,12 +21,14 @@ import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -36,6 +43,8 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final PasswordEncoder passwordEncoder;
     private final CustomUserDetailsService userDetailsService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final SignedTokenService signedTokenService;
 
 
     @Bean
@@ -54,7 +63,7 @@ public class SecurityConfig {
                 .formLogin().disable()
 
                 .authorizeRequests()
-                .antMatchers("/join", "/api/login").permitAll()
+                .antMatchers("/join", "/api/login", "/api/token/refresh").permitAll()
                 .antMatchers(GET, "/member/**", "/posts/**", "/comments/**", "/board/**", "/likes/**").permitAll()
                 .antMatchers("/settings/**").hasRole("MEMBER")
                 .antMatchers("/admin/**").hasRole("ADMIN")
@@ -75,6 +84,10 @@ public class SecurityConfig {
 
         loginConfigurer(http);
 
+        if (signedTokenService.isEnabled()) {
+            tokenConfigurer(http);
+        }
+
         return http.build();
     }
 
@@ -84,10 +97,25 @@ public class SecurityConfig {
                 .successHandlerCustom(authenticationSuccessHandler())
                 .failureHandlerCustom(authenticationFailureHandler())
                 .loginProcessingUrl("/api/login")
+                .loginAttemptLimiter(loginAttemptLimiter)
                 .setAuthenticationManager(authenticationManager(authenticationConfiguration));
 
     }
 
+    /**
+     * 토큰 방식 로그인 (auth.token.enabled) : 세션을 만들지 않고 요청마다 access 토큰으로 로그인 정보를 설정
+     * 토큰은 브라우저가 자동으로 보내지 않으므로 세션에 보관하는 CSRF 토큰은 사용하지 않음
+     */
+    private void tokenConfigurer(HttpSecurity http) throws Exception {
+        http
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                .and()
+                .csrf().disable()
+                .logout().addLogoutHandler(new TokenLogoutHandler(signedTokenService))
+                .and()
+                .addFilterBefore(new TokenAuthenticationFilter(signedTokenService), LogoutFilter.class);
+    }
+
     @Bean
     public LogoutSuccessHandler logoutSuccessHandler() {
         return new CustomLogoutSuccessHandler();
@@ -95,7 +123,8 @@ public class SecurityConfig {
 
     @Bean
     public AuthenticationSuccessHandler authenticationSuccessHandler() {
-        return new CustomAuthenticationSuccessHandler();
+        return signedTokenService.isEnabled() ? new TokenAuthenticationSuccessHandler(signedTokenService)
+                : new CustomAuthenticationSuccessHandler();
     }
 
     @Bean
@@ -1,5 +1,6 @@
 package com.portfolio.security.handler;
 
+import com.portfolio.exception.DefaultException;
 import com.portfolio.exception.custom.AuthenticationFailedException;
 import com.portfolio.exception.custom.CustomBadRequestException;
 import org.springframework.http.MediaType;
@@ -28,7 +29,9 @@ public class CustomAuthenticationFailureHandler implements AuthenticationFailure
     public void onAuthenticationFailure(HttpServletRequest request,
                                         HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
         String message = exception.getMessage();
-        response.setStatus(SC_UNAUTHORIZED);
+        //시도 횟수 초과(429), 비밀번호 비교 대기열 초과(503) 는 원인 Exception 의 상태 코드로 응답
+        response.setStatus(exception.getCause() instanceof DefaultException
+                ? ((DefaultException) exception.getCause()).getStatusCode() : SC_UNAUTHORIZED);
         response.setContentType(APPLICATION_JSON_VALUE);
         response.setCharacterEncoding(UTF_8.name());
 
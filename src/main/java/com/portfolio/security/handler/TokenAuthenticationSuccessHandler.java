@@ -0,0 +1,38 @@
+package com.portfolio.security.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.security.service.CustomUser;
+import com.portfolio.security.token.SignedTokenService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.*;
+import static javax.servlet.http.HttpServletResponse.*;
+import static org.springframework.http.MediaType.*;
+
+/** 토큰 방식 로그인에서 로그인 성공시 세션 대신 access, refresh 토큰을 발급 (TokenResponse) */
+public class TokenAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SignedTokenService signedTokenService;
+
+    public TokenAuthenticationSuccessHandler(SignedTokenService signedTokenService) {
+        this.signedTokenService = signedTokenService;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
+        CustomUser customUser = (CustomUser) authentication.getPrincipal();
+
+        response.setStatus(SC_OK);
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                signedTokenService.issue(customUser.getMemberId()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.security.handler;
+
+import com.portfolio.security.handler.filter.TokenAuthenticationFilter;
+import com.portfolio.security.token.SignedTokenService;
+import com.portfolio.security.token.TokenClaims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/** 토큰 방식 로그인에서 로그아웃시 요청의 access 토큰과 같이 발급된 refresh 토큰까지 폐기 */
+public class TokenLogoutHandler implements LogoutHandler {
+
+    private final SignedTokenService signedTokenService;
+
+    public TokenLogoutHandler(SignedTokenService signedTokenService) {
+        this.signedTokenService = signedTokenService;
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        TokenClaims claims = signedTokenService.verify(
+                TokenAuthenticationFilter.resolveToken(request), TokenClaims.Type.ACCESS);
+        if (claims != null) {
+            signedTokenService.revoke(claims);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.portfolio.security.handler.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.exception.custom.TooManyRequestsException;
 import com.portfolio.request.member.Login;
+import com.portfolio.security.service.LoginAttemptLimiter;
 import com.portfolio.security.token.CustomAuthenticationToken;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.*;
@@ -16,9 +18,11 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 import static com.portfolio.exception.custom.CustomBadRequestException.*;
+import static com.portfolio.exception.custom.TooManyRequestsException.TOO_MANY_LOGIN_ATTEMPTS;
 
 public class CustomLoginProcessingFilter extends AbstractAuthenticationProcessingFilter {
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoginAttemptLimiter loginAttemptLimiter;
 
     public CustomLoginProcessingFilter() {
         super(new AntPathRequestMatcher("/api/login", "POST"));
@@ -40,11 +44,27 @@ public class CustomLoginProcessingFilter extends AbstractAuthenticationProcessin
                 throw new AuthenticationServiceException(USERNAME_OR_PASSWORD_NOT_PROVIDED);
             }
 
-            CustomAuthenticationToken token = new CustomAuthenticationToken(
-                    login.getUsernameOrEmail(),
-                    login.getPassword());
+            if (loginAttemptLimiter == null) {
+                return authenticate(login);
+            }
 
-            return this.getAuthenticationManager().authenticate(token);
+            //시도 횟수를 먼저 꺼내고, 남은 횟수가 없으면 회원 조회, 비밀번호 비교 없이 바로 실패 (CustomAuthenticationFailureHandler 에서 429 응답)
+            //프록시를 거친 요청의 IP 는 server.forward-headers-strategy 설정으로 신뢰하는 프록시가 전달한 X-Forwarded-For 의 IP 가 됨
+            String ip = request.getRemoteAddr();
+            if (loginAttemptLimiter.tryAcquire(ip, login.getUsernameOrEmail()) == false) {
+                throw new AuthenticationServiceException(TOO_MANY_LOGIN_ATTEMPTS,
+                        new TooManyRequestsException(TOO_MANY_LOGIN_ATTEMPTS));
+            }
+
+            //성공했거나 비밀번호 비교 대기열 초과처럼 서버 문제로 실패한 경우(AuthenticationServiceException)는 꺼낸 횟수를 돌려놓음
+            try {
+                Authentication authentication = authenticate(login);
+                loginAttemptLimiter.recordSuccess(ip, login.getUsernameOrEmail());
+                return authentication;
+            } catch (AuthenticationServiceException e) {
+                loginAttemptLimiter.release(ip, login.getUsernameOrEmail());
+                throw e;
+            }
 
         } catch (IOException e) {
             throw new InsufficientAuthenticationException(INVALID_LOGIN_FORMAT) {
@@ -54,4 +74,16 @@ public class CustomLoginProcessingFilter extends AbstractAuthenticationProcessin
 
     }
 
+    private Authentication authenticate(Login login) {
+        CustomAuthenticationToken token = new CustomAuthenticationToken(
+                login.getUsernameOrEmail(),
+                login.getPassword());
+
+        return this.getAuthenticationManager().authenticate(token);
+    }
+
+    public void setLoginAttemptLimiter(LoginAttemptLimiter loginAttemptLimiter) {
+        this.loginAttemptLimiter = loginAttemptLimiter;
+    }
+
 }
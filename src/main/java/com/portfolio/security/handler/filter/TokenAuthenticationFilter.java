@@ -0,0 +1,50 @@
+package com.portfolio.security.handler.filter;
+
+import com.portfolio.security.service.CustomUser;
+import com.portfolio.security.token.CustomAuthenticationToken;
+import com.portfolio.security.token.SignedTokenService;
+import com.portfolio.security.token.TokenClaims;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static com.portfolio.security.token.SignedTokenService.BEARER_PREFIX;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * 토큰 방식 로그인에서 Authorization: Bearer 헤더의 access 토큰으로 로그인 정보를 설정하는 Filter
+ * 토큰의 서명과 만료 시각만 확인하므로 DB, 세션을 조회하지 않음
+ * 토큰이 없거나 올바르지 않으면 로그인하지 않은 요청으로 처리함 (로그인이 필요한 요청은 CustomAuthenticationEntryPoint 에서 401 응답)
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private final SignedTokenService signedTokenService;
+
+    public TokenAuthenticationFilter(SignedTokenService signedTokenService) {
+        this.signedTokenService = signedTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TokenClaims claims = signedTokenService.verify(resolveToken(request), TokenClaims.Type.ACCESS);
+        if (claims != null) {
+            CustomUser customUser = new CustomUser(claims.getMemberId(), claims.getUsername(), claims.getRole());
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(new CustomAuthenticationToken(customUser, null, customUser.getAuthorities()));
+            SecurityContextHolder.setContext(context);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    public static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(AUTHORIZATION);
+        return header != null && header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()) : null;
+    }
+}
@@ -1,11 +1,13 @@
 package com.portfolio.security.provider;
 
 import com.portfolio.exception.custom.CustomBadRequestException;
+import com.portfolio.exception.custom.ServiceUnavailableException;
 import com.portfolio.security.service.CustomUser;
 import com.portfolio.security.service.CustomUserDetailsService;
 import com.portfolio.security.token.CustomAuthenticationToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -31,8 +33,15 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 
         CustomUser customUser = (CustomUser) userDetailsService.loadUserByUsername(usernameOrEmail);
 
-        if (passwordEncoder
-                .matches(password, customUser.getPassword()) == false) {
+        boolean matches;
+        try {
+            matches = passwordEncoder.matches(password, customUser.getPassword());
+        } catch (ServiceUnavailableException e) {
+            //비밀번호 비교 대기열이 가득 찬 경우 (CustomAuthenticationFailureHandler 에서 503 응답)
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+
+        if (matches == false) {
             throw new BadCredentialsException(INVALID_LOGIN_INFO);
         }
 
@@ -0,0 +1,89 @@
+package com.portfolio.security.service;
+
+import com.portfolio.exception.custom.ServiceUnavailableException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.portfolio.exception.custom.ServiceUnavailableException.PASSWORD_HASH_BUSY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 비밀번호 암호화, 비교를 요청 스레드가 아닌 전용 스레드에서 처리하는 PasswordEncoder
+ * 로그인이 몰려도 BCrypt 계산은 threads 개의 스레드에서만 실행되어 다른 요청이 사용할 CPU 가 남고,
+ * 대기열(queue-capacity)이 가득 찼거나 max-queue-ms 보다 오래 기다린 요청은 계산하지 않고 바로 503 으로 응답함
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final long maxQueueNanos;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long maxQueueMillis) {
+        this.delegate = delegate;
+        this.maxQueueNanos = MILLISECONDS.toNanos(maxQueueMillis);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /** 대기열에 있는 요청은 계산하지 않고 종료 */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    //대기열이 가득 찼거나, 스레드가 받았을 때 이미 max-queue-ms 가 지난 요청은 ServiceUnavailableException
+    private <T> T submit(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (System.nanoTime() - queuedAt > maxQueueNanos) {
+                    throw new ServiceUnavailableException(PASSWORD_HASH_BUSY);
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException(PASSWORD_HASH_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(PASSWORD_HASH_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
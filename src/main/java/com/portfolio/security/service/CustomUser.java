@@ -1,24 +1,42 @@
 package com.portfolio.security.service;
 
 import com.portfolio.domain.Member;
+import com.portfolio.domain.MemberRole;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
-import java.util.Collection;
 import java.util.List;
 
 @Getter
 public class CustomUser extends User {
 
-    private Member member;
+    //로그인한 회원의 번호와 권한 (요청마다 회원을 다시 조회하지 않도록 로그인시 저장, 변경되지 않음)
+    private final Long memberId;
+
+    private final MemberRole role;
 
     public CustomUser(Member member) {
         super(member.getUsername(), member.getPassword(), member.getIsEnabled(),
                 member.getIsEnabled(), true, true,
                 List.of(new SimpleGrantedAuthority(member.getRole().toString())));
-        this.member = member;
+        this.memberId = member.getId();
+        this.role = member.getRole();
+    }
+
+    //PrincipalCache 에 보관된 회원 정보로 생성 (로그인 후 비밀번호가 지워져도 보관된 정보는 변경되지 않음)
+    public CustomUser(MemberPrincipal principal) {
+        super(principal.getUsername(), principal.getPassword(), principal.isEnabled(),
+                principal.isEnabled(), true, true,
+                List.of(new SimpleGrantedAuthority(principal.getRole().toString())));
+        this.memberId = principal.getMemberId();
+        this.role = principal.getRole();
+    }
+
+    //토큰 방식 로그인에서 서명된 토큰의 내용으로 생성 (비밀번호는 보관하지 않음)
+    public CustomUser(Long memberId, String username, MemberRole role) {
+        super(username, "", List.of(new SimpleGrantedAuthority(role.toString())));
+        this.memberId = memberId;
+        this.role = role;
     }
 }
@@ -1,6 +1,5 @@
 package com.portfolio.security.service;
 
-import com.portfolio.domain.Member;
 import com.portfolio.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.DisabledException;
@@ -10,8 +9,6 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 import static com.portfolio.exception.custom.CustomBadRequestException.*;
 
 @Service
@@ -21,23 +18,22 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
 
+    private final PrincipalCache principalCache;
+
+    //회원 이름 또는 이메일로 쿼리 한번에 조회 (잠깐동안 PrincipalCache 에 보관된 회원 정보 사용, 로그인마다 새 CustomUser 생성)
     @Override
-    public UserDetails loadUserByUsername(String usernameOrPassword) throws UsernameNotFoundException {
+    public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
 
-        Optional<Member> optionalMember = memberRepository.findByUsername(usernameOrPassword);
+        MemberPrincipal principal = principalCache.get(usernameOrEmail, memberRepository::findByUsernameOrEmail);
 
-        if (optionalMember.isEmpty()) {
-            optionalMember = memberRepository.findByEmail(usernameOrPassword);
-        }
-        if (optionalMember.isEmpty()) {
+        if (principal == null) {
             throw new UsernameNotFoundException(INVALID_LOGIN_INFO);
         }
-        Member member = optionalMember.get();
 
-        if (member.getIsEnabled() == false) {
+        if (principal.isEnabled() == false) {
             throw new DisabledException(UNREGISTERED_ACCOUNT);
         }
-        return new CustomUser(member);
+        return new CustomUser(principal);
     }
 
 }
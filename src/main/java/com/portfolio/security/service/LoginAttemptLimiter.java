@@ -0,0 +1,150 @@
+package com.portfolio.security.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인 실패 횟수를 IP, (계정(회원 이름 또는 이메일), IP) 별 토큰 버킷으로 세어 너무 많이 실패하면 거부하는 Class
+ * 버킷은 최대 횟수만큼 채워져 있다가 시도할 때마다 하나씩 줄고, window-ms 동안 최대 횟수만큼 다시 채워짐
+ * 비밀번호를 비교하기 전에 버킷에서 꺼내므로 동시에 시도해도 남은 횟수보다 많이 시도할수 없고, 실패가 아닌 시도는 꺼낸 것을 돌려놓음
+ * 거부된 로그인은 회원 조회와 비밀번호 비교(BCrypt) 없이 바로 429 로 응답함
+ *
+ * 계정의 실패 횟수는 IP 마다 따로 세므로, 다른 IP 에서 비밀번호를 틀리게 입력해 회원의 로그인을 막을수 없음
+ * 대신 여러 IP 로 한 계정을 대입하는 경우는 IP 별 제한만 적용됨
+ * 로그인에 성공하면 해당 IP 의 계정 실패 횟수를 지움 (IP 의 실패 횟수는 다른 계정을 대입하는 경우를 막기 위해 그대로 둠)
+ * IP, (계정, IP) 마다 max-keys 개까지 보관하고, 넘치면 다시 채워진 버킷과 오래전에 시도한 버킷부터 제거함
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final Map<String, Bucket> ipFailures = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> accountFailures = new ConcurrentHashMap<>();
+
+    private final int maxAttemptsPerIp;
+    private final int maxAttemptsPerAccount;
+    private final long windowMillis;
+    private final int maxKeys;
+
+    public LoginAttemptLimiter(@Value("${login.throttle.max-attempts-per-ip:30}") int maxAttemptsPerIp,
+                               @Value("${login.throttle.max-attempts-per-account:10}") int maxAttemptsPerAccount,
+                               @Value("${login.throttle.window-ms:60000}") long windowMillis,
+                               @Value("${login.throttle.max-keys:100000}") int maxKeys) {
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxAttemptsPerAccount = maxAttemptsPerAccount;
+        this.windowMillis = windowMillis;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 로그인을 시도하기 전에 IP, (계정, IP) 의 버킷에서 하나씩 꺼냄 (최대 횟수가 0 이하이면 꺼내지 않음)
+     * 둘 중 하나라도 꺼낼수 없으면 먼저 꺼낸 것을 돌려놓고 false 반환
+     * 꺼낸 횟수는 로그인에 실패하면 그대로 두고, 성공하면 recordSuccess, 서버 문제로 실패하면 release 로 돌려놓음
+     */
+    public boolean tryAcquire(String ip, String usernameOrEmail) {
+        long now = System.currentTimeMillis();
+        if (take(ipFailures, ip, maxAttemptsPerIp, now) == false) {
+            return false;
+        }
+        if (take(accountFailures, accountKey(ip, usernameOrEmail), maxAttemptsPerAccount, now) == false) {
+            give(ipFailures, ip, maxAttemptsPerIp, now);
+            return false;
+        }
+        return true;
+    }
+
+    /** 실패로 세지 않는 시도(비밀번호 비교 대기열 초과 같은 서버 문제)에서 꺼낸 횟수를 돌려놓음 */
+    public void release(String ip, String usernameOrEmail) {
+        long now = System.currentTimeMillis();
+        give(ipFailures, ip, maxAttemptsPerIp, now);
+        give(accountFailures, accountKey(ip, usernameOrEmail), maxAttemptsPerAccount, now);
+    }
+
+    /** 로그인에 성공하면 IP 에서 꺼낸 횟수를 돌려놓고 해당 IP 의 계정 실패 횟수를 지움 */
+    public void recordSuccess(String ip, String usernameOrEmail) {
+        give(ipFailures, ip, maxAttemptsPerIp, System.currentTimeMillis());
+        accountFailures.remove(accountKey(ip, usernameOrEmail));
+    }
+
+    //버킷이 없으면 가득 찬 버킷에서 꺼냄 (꺼내지 못해도 다시 채워진 버킷은 보관)
+    private boolean take(Map<String, Bucket> buckets, String key, int maxAttempts, long now) {
+        if (maxAttempts <= 0) {
+            return true;
+        }
+        boolean[] taken = new boolean[1];
+        buckets.compute(key, (k, bucket) -> {
+            Bucket refilled = bucket == null ? new Bucket(maxAttempts, now) : bucket.refill(maxAttempts, windowMillis, now);
+            taken[0] = refilled.tokens >= 1;
+            return taken[0] ? refilled.take() : refilled;
+        });
+        if (buckets.size() > maxKeys) {
+            evict(buckets, maxAttempts, now);
+        }
+        return taken[0];
+    }
+
+    //하나를 돌려놓고 다시 가득 찬 버킷은 없는 것과 같으므로 제거
+    private void give(Map<String, Bucket> buckets, String key, int maxAttempts, long now) {
+        if (maxAttempts <= 0) {
+            return;
+        }
+        buckets.computeIfPresent(key, (k, bucket) -> {
+            Bucket returned = bucket.refill(maxAttempts, windowMillis, now).give(maxAttempts);
+            return returned.tokens >= maxAttempts ? null : returned;
+        });
+    }
+
+    //다시 채워진 버킷은 없는 것과 같으므로 먼저 제거하고, 그래도 max-keys 를 넘으면 오래전에 시도한 버킷부터 제거
+    private void evict(Map<String, Bucket> buckets, int maxAttempts, long now) {
+        buckets.values().removeIf(bucket -> bucket.refill(maxAttempts, windowMillis, now).tokens >= maxAttempts);
+
+        int excess = buckets.size() - maxKeys;
+        if (excess > 0) {
+            List<Map.Entry<String, Bucket>> oldest = buckets.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().updatedAt))
+                    .limit(excess)
+                    .collect(Collectors.toList());
+            oldest.forEach(entry -> buckets.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    //계정은 대소문자를 구분하지 않음
+    private static String accountKey(String ip, String usernameOrEmail) {
+        return usernameOrEmail.toLowerCase(Locale.ROOT) + "@" + ip;
+    }
+
+    //남은 실패 가능 횟수와 마지막으로 계산한 시각 (변경하지 않고 새 버킷을 만듦)
+    private static class Bucket {
+
+        private final double tokens;
+        private final long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        //지난 시간만큼 채운 버킷 (window-ms 마다 maxAttempts 개, 최대 maxAttempts 개)
+        private Bucket refill(int maxAttempts, long windowMillis, long now) {
+            if (now <= updatedAt) {
+                return this;
+            }
+            double refilled = tokens + (double) (now - updatedAt) * maxAttempts / windowMillis;
+            return new Bucket(Math.min(refilled, maxAttempts), now);
+        }
+
+        private Bucket take() {
+            return new Bucket(Math.max(tokens - 1, 0), updatedAt);
+        }
+
+        private Bucket give(int maxAttempts) {
+            return new Bucket(Math.min(tokens + 1, maxAttempts), updatedAt);
+        }
+    }
+}
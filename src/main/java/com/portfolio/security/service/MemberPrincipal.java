@@ -0,0 +1,36 @@
+package com.portfolio.security.service;
+
+import com.portfolio.domain.Member;
+import com.portfolio.domain.MemberRole;
+import lombok.Getter;
+
+/**
+ * 로그인에 필요한 회원 정보만 복사해둔 변경되지 않는 Class (PrincipalCache 에 보관)
+ * 영속성 컨텍스트에서 분리된 Member 엔티티 대신 보관하므로 보관중에 지연 로딩이나 변경이 일어나지 않음
+ */
+@Getter
+public final class MemberPrincipal {
+
+    private final Long memberId;
+
+    private final String username;
+
+    //암호화된 비밀번호
+    private final String password;
+
+    private final MemberRole role;
+
+    private final boolean enabled;
+
+    private MemberPrincipal(Member member) {
+        this.memberId = member.getId();
+        this.username = member.getUsername();
+        this.password = member.getPassword();
+        this.role = member.getRole();
+        this.enabled = member.getIsEnabled();
+    }
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member);
+    }
+}
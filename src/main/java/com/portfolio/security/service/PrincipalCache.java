@@ -0,0 +1,134 @@
+package com.portfolio.security.service;
+
+import com.portfolio.domain.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 로그인할 때 조회한 회원 정보를 잠깐동안 보관하는 Class (배포 직후처럼 로그인이 몰려도 매번 회원 테이블을 조회하지 않음)
+ * 소문자로 바꾼 회원 이름 또는 이메일을 key 로 엔티티가 아닌 MemberPrincipal 을 ttl-ms 동안 보관하고, 같은 key 로 동시에 로그인하면 한번만 조회함
+ * 비밀번호 변경, 탈퇴, 강퇴시 트랜잭션 커밋 후 이 서버에서 해당 회원을 제거함 (다른 서버에는 ttl-ms 가 지나야 반영되므로 짧게 유지)
+ */
+@Component
+public class PrincipalCache {
+
+    public static final int MAX_ENTRIES = 10000;
+
+    private final long ttlMillis;
+
+    private final Map<String, CachedPrincipal> entries = new ConcurrentHashMap<>();
+
+    public PrincipalCache(@Value("${member.principal-cache.ttl-ms:5000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /** 회원 이름 또는 이메일로 회원 정보 조회 (보관중이지 않거나 만료되었으면 loader 로 조회, 없는 회원은 보관하지 않음) */
+    public MemberPrincipal get(String usernameOrEmail, Function<String, Member> loader) {
+        if (ttlMillis <= 0) {
+            return load(usernameOrEmail, loader);
+        }
+
+        String key = normalize(usernameOrEmail);
+        while (true) {
+            long now = System.currentTimeMillis();
+            CachedPrincipal cached = entries.get(key);
+            if (cached != null && cached.expiresAt >= now) {
+                return cached.join();
+            }
+
+            //먼저 등록한 요청만 조회하고, 같은 key 로 동시에 들어온 요청은 조회 결과를 기다림
+            CachedPrincipal loading = new CachedPrincipal(now + ttlMillis);
+            boolean registered = cached == null ? entries.putIfAbsent(key, loading) == null : entries.replace(key, cached, loading);
+            if (registered) {
+                return complete(key, loading, usernameOrEmail, loader);
+            }
+        }
+    }
+
+    //조회 결과를 기다리는 요청에 전달하고, 없는 회원이거나 실패한 경우 보관하지 않음
+    private MemberPrincipal complete(String key, CachedPrincipal loading, String usernameOrEmail,
+                                     Function<String, Member> loader) {
+        try {
+            MemberPrincipal principal = load(usernameOrEmail, loader);
+            loading.principal.complete(principal);
+            if (principal == null) {
+                entries.remove(key, loading);
+            } else if (entries.size() > MAX_ENTRIES) {
+                evict();
+            }
+            return principal;
+        } catch (RuntimeException e) {
+            loading.principal.completeExceptionally(e);
+            entries.remove(key, loading);
+            throw e;
+        }
+    }
+
+    private static MemberPrincipal load(String usernameOrEmail, Function<String, Member> loader) {
+        Member member = loader.apply(usernameOrEmail);
+        return member == null ? null : MemberPrincipal.from(member);
+    }
+
+    //만료된 회원을 제거하고, 그래도 MAX_ENTRIES 를 넘으면 먼저 만료될 회원부터 제거
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(cached -> cached.expiresAt < now);
+
+        int excess = entries.size() - MAX_ENTRIES;
+        if (excess > 0) {
+            List<Map.Entry<String, CachedPrincipal>> oldest = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                    .limit(excess)
+                    .collect(Collectors.toList());
+            oldest.forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /** 트랜잭션이 커밋된 후에 회원 이름, 이메일로 보관중인 회원 제거 */
+    public void evictAfterCommit(Member member) {
+        String username = normalize(member.getUsername());
+        String email = member.getEmail() == null ? null : normalize(member.getEmail());
+        runAfterCommit(() -> {
+            entries.remove(username);
+            if (email != null) {
+                entries.remove(email);
+            }
+        });
+    }
+
+    private static String normalize(String usernameOrEmail) {
+        return usernameOrEmail.toLowerCase(Locale.ROOT);
+    }
+
+    //보관중인 회원 정보 하나 (조회가 끝나기 전에는 principal 이 완료되지 않음)
+    private static class CachedPrincipal {
+
+        private final CompletableFuture<MemberPrincipal> principal = new CompletableFuture<>();
+        private final long expiresAt;
+
+        private CachedPrincipal(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        //조회가 실패한 경우 같은 예외를 발생시킴
+        private MemberPrincipal join() {
+            try {
+                return principal.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.portfolio.security.service;
+
+import com.portfolio.repository.member.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 로그인한 후에 탈퇴, 강퇴된 회원인지 확인하는 Class
+ * 요청은 로그인 정보(CustomUser)의 회원 번호로만 처리하므로, 세션이나 토큰이 남아있는 탈퇴 회원의 요청은 여기서 확인해 거부함
+ * 회원 테이블에서 확인한 결과를 ttl-ms 동안 max-members 명까지 보관함 (다른 서버에서 탈퇴, 강퇴된 회원도 ttl-ms 안에 거부됨)
+ * 이 서버에서 탈퇴, 강퇴된 회원은 트랜잭션 커밋 후 바로 거부함
+ */
+@Component
+public class RevokedMembers {
+
+    private final MemberRepository memberRepository;
+    private final long ttlMillis;
+    private final int maxMembers;
+
+    //회원 번호별 회원 테이블에서 확인한 결과
+    private final Map<Long, MemberStatus> statuses = new ConcurrentHashMap<>();
+
+    public RevokedMembers(MemberRepository memberRepository,
+                          @Value("${member.status-cache.ttl-ms:3000}") long ttlMillis,
+                          @Value("${member.status-cache.max-members:10000}") int maxMembers) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxMembers = maxMembers;
+    }
+
+    /** 트랜잭션이 커밋된 후에 탈퇴, 강퇴된 회원으로 보관 (롤백되면 보관하지 않음) */
+    public void revokeAfterCommit(Long memberId) {
+        runAfterCommit(() -> statuses.put(memberId, new MemberStatus(false, System.currentTimeMillis())));
+    }
+
+    /** 탈퇴, 강퇴된 회원인지 확인 (보관된 결과가 없거나 만료되었으면 회원 테이블에서 확인) */
+    public boolean isRevoked(Long memberId) {
+        long now = System.currentTimeMillis();
+        MemberStatus status = statuses.get(memberId);
+        if (status == null || status.isExpired(now)) {
+            //확인하는 동안 탈퇴, 강퇴로 보관된 결과가 있으면 덮어쓰지 않음
+            MemberStatus checked = new MemberStatus(memberRepository.isActiveMember(memberId), now);
+            status = statuses.compute(memberId, (id, previous) ->
+                    previous != null && previous.checkedAt >= checked.checkedAt ? previous : checked);
+            if (statuses.size() > maxMembers) {
+                evict(now);
+            }
+        }
+        return status.active == false;
+    }
+
+    //만료된 결과를 제거하고, 그래도 max-members 를 넘으면 오래전에 확인한 회원부터 제거
+    private void evict(long now) {
+        statuses.values().removeIf(status -> status.isExpired(now));
+
+        int excess = statuses.size() - maxMembers;
+        if (excess > 0) {
+            List<Map.Entry<Long, MemberStatus>> oldest = statuses.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().checkedAt))
+                    .limit(excess)
+                    .collect(Collectors.toList());
+            oldest.forEach(entry -> statuses.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    //회원 한명의 확인 결과와 확인한 시각
+    private class MemberStatus {
+
+        private final boolean active;
+        private final long checkedAt;
+
+        private MemberStatus(boolean active, long checkedAt) {
+            this.active = active;
+            this.checkedAt = checkedAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - checkedAt > ttlMillis;
+        }
+    }
+}
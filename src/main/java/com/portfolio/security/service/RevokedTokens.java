@@ -0,0 +1,129 @@
+package com.portfolio.security.service;
+
+import com.portfolio.repository.member.RevokedTokenRepository;
+import com.portfolio.security.token.TokenClaims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 토큰 방식 로그인에서 폐기된 토큰 id 를 보관하는 Class (access 토큰을 확인할 때 DB 를 조회하지 않음)
+ * 로그아웃, 재발급으로 폐기된 토큰 한쌍의 id 와 탈퇴, 강퇴된 회원을 revoked_token 테이블에 저장하고,
+ * 서버마다 revocation-sync-ms 마다 새로 폐기된 id 를 조회해 메모리에 보관함 (다른 서버에서 폐기된 토큰은 revocation-sync-ms 안에 거부됨)
+ * 메모리에는 폐기된 후 access-ttl-ms 동안만 보관함 (그 전에 발급된 access 토큰은 모두 만료되고, refresh 토큰은 재발급할 때 DB 에서 확인)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class RevokedTokens {
+
+    //커밋이 늦어진 행과 서버 간 시각 차이를 놓치지 않도록 이전에 조회한 시각보다 앞에서부터 조회
+    private static final long SYNC_LOOKBACK_MILLIS = 10000;
+
+    //만료된 행을 삭제하는 주기
+    private static final long PURGE_INTERVAL_MILLIS = 60000;
+
+    //탈퇴, 강퇴된 회원의 토큰 id (회원에게 발급된 모든 토큰을 폐기)
+    private static final String MEMBER_PREFIX = "member:";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final boolean enabled;
+    private final long accessTtlMillis;
+    private final long syncIntervalMillis;
+
+    //토큰 id 별 폐기된 시각
+    private final Map<String, Long> revokedAtByTokenId = new ConcurrentHashMap<>();
+
+    private volatile long syncedAt;
+    private long purgedAt;
+
+    private ScheduledExecutorService syncer;
+
+    public RevokedTokens(RevokedTokenRepository revokedTokenRepository,
+                         @Value("${auth.token.enabled:false}") boolean enabled,
+                         @Value("${auth.token.access-ttl-ms:900000}") long accessTtlMillis,
+                         @Value("${auth.token.revocation-sync-ms:1000}") long syncIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.enabled = enabled;
+        this.accessTtlMillis = accessTtlMillis;
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /** 아직 만료되지 않은 access 토큰을 폐기한 id 를 모두 읽은 후 주기적으로 새로 폐기된 id 조회 */
+    @PostConstruct
+    public void start() {
+        if (enabled == false) {
+            return;
+        }
+        syncedAt = System.currentTimeMillis() - accessTtlMillis;
+        sync();
+
+        syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revoked-tokens-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMillis, syncIntervalMillis, MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (syncer != null) {
+            syncer.shutdown();
+        }
+    }
+
+    /** 토큰 한쌍 또는 토큰을 발급받은 회원이 폐기되었는지 메모리에서만 확인 */
+    public boolean isRevoked(TokenClaims claims) {
+        return revokedAtByTokenId.containsKey(claims.getTokenId())
+                || revokedAtByTokenId.containsKey(MEMBER_PREFIX + claims.getMemberId());
+    }
+
+    /**
+     * 토큰 id 를 폐기된 id 로 저장하고 트랜잭션이 커밋된 후에 이 서버에서 바로 거부 (저장되었으면 true)
+     * 이미 폐기된 id 이면 false (한번 사용한 refresh 토큰, 로그아웃한 토큰), expiresAt 이 지나면 DB 에서 삭제됨
+     */
+    public boolean revoke(String tokenId, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (revokedTokenRepository.insertIfAbsent(tokenId, now, expiresAt) == false) {
+            return false;
+        }
+        runAfterCommit(() -> revokedAtByTokenId.put(tokenId, now));
+        return true;
+    }
+
+    /** 탈퇴, 강퇴된 회원에게 발급된 access 토큰을 모두 폐기 (refresh 토큰은 재발급할 때 DB 에서 회원을 확인) */
+    public void revokeMember(Long memberId) {
+        if (enabled) {
+            revoke(MEMBER_PREFIX + memberId, System.currentTimeMillis() + accessTtlMillis);
+        }
+    }
+
+    //새로 폐기된 id 를 읽고, access-ttl-ms 가 지난 id 는 메모리에서, 만료된 행은 DB 에서 제거
+    private void sync() {
+        try {
+            long now = System.currentTimeMillis();
+            revokedAtByTokenId.putAll(revokedTokenRepository.findRevokedSince(syncedAt - SYNC_LOOKBACK_MILLIS));
+            syncedAt = now;
+            revokedAtByTokenId.values().removeIf(revokedAt -> revokedAt < now - accessTtlMillis);
+
+            if (now - purgedAt >= PURGE_INTERVAL_MILLIS) {
+                purgedAt = now;
+                revokedTokenRepository.deleteExpired(now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("폐기된 토큰 조회 실패", e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.portfolio.security.token;
+
+import com.portfolio.domain.MemberRole;
+import com.portfolio.exception.custom.AuthenticationFailedException;
+import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.repository.member.MemberTokenState;
+import com.portfolio.response.member.TokenResponse;
+import com.portfolio.security.service.RevokedTokens;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 토큰 방식 로그인(auth.token.enabled)에서 HMAC-SHA256 으로 서명한 access, refresh 토큰을 발급하고 확인하는 Class
+ * 토큰은 "base64url(내용).base64url(서명)" 형식이고, 내용에 회원 번호, 이름, 권한, 만료 시각이 있어 확인할 때 DB 와 세션을 사용하지 않음
+ * 서버들이 같은 secret 을 사용하면 어느 서버에서 발급한 토큰이든 확인할수 있음
+ * 로그인, 재발급할 때마다 access, refresh 토큰 한쌍에 임의의 토큰 id 를 담고, 로그아웃, 재발급하면 그 id 만 폐기함 (RevokedTokens)
+ * (같은 회원이 다른 기기에서 로그인해 발급받은 토큰은 폐기되지 않음)
+ * 탈퇴, 강퇴된 회원의 access 토큰은 RevokedTokens 에 회원으로 폐기되어 거부되고, refresh 토큰은 재발급할 때 DB 에서 확인해 거부함
+ */
+@Component
+public class SignedTokenService {
+
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int TOKEN_ID_BYTES = 16;
+
+    private final MemberRepository memberRepository;
+    private final RevokedTokens revokedTokens;
+
+    private final boolean enabled;
+    private final long accessTtlMillis;
+    private final long refreshTtlMillis;
+    private final SecretKeySpec key;
+
+    private final SecureRandom random = new SecureRandom();
+
+    //Mac 은 thread-safe 하지 않으므로 스레드마다 하나씩 사용
+    private final ThreadLocal<Mac> macs;
+
+    public SignedTokenService(MemberRepository memberRepository,
+                              RevokedTokens revokedTokens,
+                              @Value("${auth.token.enabled:false}") boolean enabled,
+                              @Value("${auth.token.secret:}") String secret,
+                              @Value("${auth.token.access-ttl-ms:900000}") long accessTtlMillis,
+                              @Value("${auth.token.refresh-ttl-ms:1209600000}") long refreshTtlMillis) {
+        this.memberRepository = memberRepository;
+        this.revokedTokens = revokedTokens;
+        this.enabled = enabled;
+        this.accessTtlMillis = accessTtlMillis;
+        this.refreshTtlMillis = refreshTtlMillis;
+
+        byte[] secretBytes = secret.getBytes(UTF_8);
+        if (enabled && secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("auth.token.secret 은 " + MIN_SECRET_BYTES + " 바이트 이상이어야 합니다");
+        }
+        //사용하지 않는 경우에도 빈 key 로 생성할수 없으므로 임의의 key 사용
+        if (secretBytes.length == 0) {
+            secretBytes = new byte[MIN_SECRET_BYTES];
+            random.nextBytes(secretBytes);
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 로그인한 회원에게 DB 의 회원 이름, 권한으로 access, refresh 토큰을 함께 발급 */
+    public TokenResponse issue(Long memberId) {
+        MemberTokenState state = memberRepository.findActiveTokenState(memberId);
+        if (state == null) {
+            throw new AuthenticationFailedException();
+        }
+        return issue(state);
+    }
+
+    //새 토큰 id 로 access, refresh 토큰 한쌍을 발급
+    private TokenResponse issue(MemberTokenState state) {
+        Long memberId = state.getMemberId();
+        String username = state.getUsername();
+        MemberRole role = state.getRole();
+        String tokenId = newTokenId();
+        long now = System.currentTimeMillis();
+        return TokenResponse.builder()
+                .username(username)
+                .accessToken(sign(new TokenClaims(TokenClaims.Type.ACCESS, tokenId, memberId, username, role,
+                        now + accessTtlMillis)))
+                .refreshToken(sign(new TokenClaims(TokenClaims.Type.REFRESH, tokenId, memberId, username, role,
+                        now + refreshTtlMillis)))
+                .expiresIn(accessTtlMillis / 1000)
+                .build();
+    }
+
+    /**
+     * 토큰의 서명, 종류, 만료 시각을 확인하고 폐기되지 않았으면 토큰 내용 반환 (올바르지 않으면 null)
+     * 로그아웃, 재발급으로 폐기된 토큰과 로그인 후 탈퇴, 강퇴된 회원의 토큰도 null (RevokedTokens 의 메모리에서만 확인)
+     */
+    public TokenClaims verify(String token, TokenClaims.Type type) {
+        if (enabled == false || token == null) {
+            return null;
+        }
+
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        String payload = token.substring(0, dot);
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (MessageDigest.isEqual(mac(payload), signature) == false) {
+            return null;
+        }
+
+        TokenClaims claims = parse(payload);
+        if (claims == null
+                || claims.getType() != type
+                || claims.getExpiresAt() < System.currentTimeMillis()
+                || revokedTokens.isRevoked(claims)) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * refresh 토큰으로 새 토큰을 발급하고 기존 토큰은 폐기 (한번 사용한 refresh 토큰은 다시 사용할수 없음)
+     * 재발급할 때만 DB 를 사용해 탈퇴, 강퇴 여부를 확인하고, 권한은 토큰이 아닌 DB 의 권한으로 발급함
+     * 토큰 id 는 revoked_token 에 한번만 저장되므로 같은 refresh 토큰으로 여러 서버에서 동시에 재발급해도 하나만 성공함
+     * (다른 서버에서 폐기된 refresh 토큰도 메모리에 보관되기 전에 DB 에서 거부됨)
+     */
+    @Transactional
+    public TokenResponse refresh(String refreshToken) {
+        TokenClaims claims = verify(refreshToken, TokenClaims.Type.REFRESH);
+        MemberTokenState state = claims == null ? null : memberRepository.findActiveTokenState(claims.getMemberId());
+        if (state == null || revokedTokens.revoke(claims.getTokenId(), claims.getExpiresAt()) == false) {
+            throw new AuthenticationFailedException();
+        }
+        return issue(state);
+    }
+
+    /** 같이 발급된 access, refresh 토큰을 함께 폐기 (refresh 토큰이 만료될 때까지 DB 에 보관, 같은 회원의 다른 토큰은 폐기하지 않음) */
+    @Transactional
+    public void revoke(TokenClaims claims) {
+        long refreshExpiresAt = claims.getType() == TokenClaims.Type.REFRESH ? claims.getExpiresAt()
+                : claims.getExpiresAt() - accessTtlMillis + refreshTtlMillis;
+        revokedTokens.revoke(claims.getTokenId(), refreshExpiresAt);
+    }
+
+    //내용 : 종류|토큰 id|회원 번호|권한|만료 시각|회원 이름
+    private String sign(TokenClaims claims) {
+        String content = String.join("|",
+                claims.getType().name(),
+                claims.getTokenId(),
+                claims.getMemberId().toString(),
+                claims.getRole().name(),
+                Long.toString(claims.getExpiresAt()),
+                claims.getUsername());
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(content.getBytes(UTF_8));
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(mac(payload));
+    }
+
+    //서명이 확인된 내용만 해석하므로 형식이 다르면 null
+    private static TokenClaims parse(String payload) {
+        try {
+            String[] fields = new String(Base64.getUrlDecoder().decode(payload), UTF_8).split("\\|", 6);
+            if (fields.length != 6) {
+                return null;
+            }
+            return new TokenClaims(TokenClaims.Type.valueOf(fields[0]),
+                    fields[1],
+                    Long.valueOf(fields[2]),
+                    fields[5],
+                    MemberRole.valueOf(fields[3]),
+                    Long.parseLong(fields[4]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    //토큰 id : 임의의 16바이트 (base64url)
+    private String newTokenId() {
+        byte[] tokenId = new byte[TOKEN_ID_BYTES];
+        random.nextBytes(tokenId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenId);
+    }
+
+    private byte[] mac(String payload) {
+        return macs.get().doFinal(payload.getBytes(UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
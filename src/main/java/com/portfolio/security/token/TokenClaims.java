@@ -0,0 +1,32 @@
+package com.portfolio.security.token;
+
+import com.portfolio.domain.MemberRole;
+import lombok.Getter;
+
+/**
+ * 서명된 토큰에 담긴 정보 (SignedTokenService 에서 서명을 확인한 후 생성)
+ * 같이 발급된 access, refresh 토큰은 같은 토큰 id 를 가지며, 토큰 id 가 폐기되면 둘 다 폐기된 토큰
+ */
+@Getter
+public class TokenClaims {
+
+    public enum Type {
+        ACCESS, REFRESH
+    }
+
+    private final Type type;
+    private final String tokenId;
+    private final Long memberId;
+    private final String username;
+    private final MemberRole role;
+    private final long expiresAt;
+
+    public TokenClaims(Type type, String tokenId, Long memberId, String username, MemberRole role, long expiresAt) {
+        this.type = type;
+        this.tokenId = tokenId;
+        this.memberId = memberId;
+        this.username = username;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+}
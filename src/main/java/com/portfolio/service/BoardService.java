@@ -1,17 +1,14 @@
 package com.portfolio.service;
 
-import com.portfolio.domain.Board;
+import com.portfolio.repository.board.BoardRegistry;
 import com.portfolio.repository.board.BoardRepository;
 import com.portfolio.request.board.CreateBoard;
 import com.portfolio.response.board.BoardResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.portfolio.request.board.CreateBoard.*;
 
@@ -21,17 +18,17 @@ import static com.portfolio.request.board.CreateBoard.*;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final BoardRegistry boardRegistry;
 
+    //게시판 목록은 DB 를 조회하지 않고 메모리에 로딩된 목록을 반환
     public List<BoardResponse> getList() {
-        List<Board> list = boardRepository
-                .findAll(Sort.by(Sort.Direction.ASC, "boardName"));
-
-        return list.isEmpty() ? new ArrayList<>() : list.stream().map(BoardResponse::new)
-                .collect(Collectors.toList());
+        return boardRegistry.getList();
     }
 
+    //생성된 게시판은 트랜잭션 커밋 후 게시판 목록에 반영됨
     @Transactional
     public void create(CreateBoard request) {
         boardRepository.save(createNewBoard(request));
+        boardRegistry.reloadAfterCommit();
     }
 }
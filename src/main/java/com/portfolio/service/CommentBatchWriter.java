@@ -0,0 +1,207 @@
+package com.portfolio.service;
+
+import com.portfolio.exception.custom.ServiceUnavailableException;
+import com.portfolio.repository.comment.CommentBatchRepository;
+import com.portfolio.repository.comment.NewComment;
+import com.portfolio.repository.util.MemberUtil;
+import com.portfolio.request.comment.CreateComment;
+import com.portfolio.response.comment.CommentEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static com.portfolio.exception.custom.ServiceUnavailableException.COMMENT_WRITE_BUSY;
+import static com.portfolio.repository.util.MemberUtil.getAuthenticatedUsername;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * 댓글 작성 요청을 모아서 한번에 저장하는 Class (comment.write-batch.enabled 가 true 인 경우에만 사용)
+ * 검증이 끝난 댓글을 대기열에 넣고, flush-interval-ms 마다 또는 max-rows 개가 모이면 INSERT 문 하나와 트랜잭션 하나로 저장함
+ * 요청한 스레드는 저장이 끝날 때까지 기다렸다가 자신의 댓글 번호 또는 예외를 받음
+ * 제시간에 저장되지 않아 예외(503)를 받은 댓글은 대기열에서 빠지므로 저장되지 않음
+ */
+@Component
+public class CommentBatchWriter {
+
+    //저장 결과를 기다리는 최대 시간
+    public static final long WAIT_TIMEOUT_MILLIS = 5000;
+
+    private final CommentBatchRepository commentBatchRepository;
+    private final MemberUtil memberUtil;
+    private final PostListCache postListCache;
+    private final CommentStream commentStream;
+
+    private final boolean enabled;
+    private final int maxRows;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<PendingComment> queue;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CommentBatchWriter(CommentBatchRepository commentBatchRepository, MemberUtil memberUtil,
+                              PostListCache postListCache, CommentStream commentStream,
+                              @Value("${comment.write-batch.enabled:false}") boolean enabled,
+                              @Value("${comment.write-batch.max-rows:100}") int maxRows,
+                              @Value("${comment.write-batch.flush-interval-ms:5}") long flushIntervalMillis,
+                              @Value("${comment.write-batch.queue-capacity:10000}") int queueCapacity) {
+        this.commentBatchRepository = commentBatchRepository;
+        this.memberUtil = memberUtil;
+        this.postListCache = postListCache;
+        this.commentStream = commentStream;
+        this.enabled = enabled;
+        this.maxRows = maxRows;
+        this.flushIntervalNanos = MILLISECONDS.toNanos(flushIntervalMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled == false) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::run, "comment-batch-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /** 대기열에 남은 댓글까지 저장한 후 종료 */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(WAIT_TIMEOUT_MILLIS);
+    }
+
+    /** 댓글 작성 (검증이 끝난 요청만 전달, 대기열이 가득 찼거나 제시간에 저장되지 않으면 예외 발생) */
+    public Long write(CreateComment request) {
+        PendingComment pending = new PendingComment(
+                new NewComment(request.getPostId(), memberUtil.getContextMemberId(), request.getContent()),
+                getAuthenticatedUsername());
+
+        if (queue.offer(pending) == false) {
+            throw new ServiceUnavailableException(COMMENT_WRITE_BUSY);
+        }
+        return await(pending);
+    }
+
+    //제시간에 저장되지 않으면 아직 대기열에 있는 댓글은 빼내고 예외 발생 (다시 요청해도 같은 댓글이 두번 저장되지 않음)
+    //이미 저장중인 댓글은 빼낼수 없으므로 저장 결과가 나올 때까지 기다림
+    private Long await(PendingComment pending) {
+        try {
+            return pending.result.get(WAIT_TIMEOUT_MILLIS, MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (queue.remove(pending)) {
+                throw new ServiceUnavailableException(COMMENT_WRITE_BUSY);
+            }
+            try {
+                return pending.result.join();
+            } catch (CompletionException saveFailed) {
+                throw unwrap(saveFailed.getCause());
+            }
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    //첫 댓글이 들어온 후 flushIntervalNanos 동안 또는 maxRows 개가 모일 때까지 기다렸다가 저장
+    private void run() {
+        List<PendingComment> batch = new ArrayList<>(maxRows);
+        while (running || queue.isEmpty() == false) {
+            try {
+                PendingComment first = queue.poll(flushIntervalNanos, NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxRows) {
+                    PendingComment next = queue.poll(deadline - System.nanoTime(), NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingComment> batch) {
+        try {
+            List<Long> ids = commentBatchRepository.insertComments(
+                    batch.stream().map(p -> p.comment).collect(Collectors.toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            //INSERT 하나가 실패하면 함께 저장하던 댓글이 모두 롤백되므로, 한건씩 다시 저장해 실패한 요청에만 예외를 전달
+            batch.forEach(this::flushOne);
+        }
+
+        //트랜잭션 밖이므로 바로 제거됨 (글마다 한번)
+        batch.stream().map(p -> p.comment.getPostId()).distinct().forEach(postListCache::evictPost);
+    }
+
+    private void flushOne(PendingComment pending) {
+        try {
+            complete(pending, commentBatchRepository.insertComments(List.of(pending.comment)).get(0));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    //트랜잭션이 커밋된 후 호출되므로 이벤트가 바로 전달됨
+    private void complete(PendingComment pending, Long commentId) {
+        commentStream.publishAfterCommit(pending.comment.getPostId(),
+                CommentEvent.created(commentId, pending.username, pending.comment.getContent()));
+        pending.result.complete(commentId);
+    }
+
+    //대기열에 들어간 댓글 하나 (저장할 댓글, 작성자 아이디, 저장 결과)
+    private static class PendingComment {
+
+        private final NewComment comment;
+        private final String username;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private PendingComment(NewComment comment, String username) {
+            this.comment = comment;
+            this.username = username;
+        }
+    }
+}
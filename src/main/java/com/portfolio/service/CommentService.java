@@ -3,13 +3,21 @@ package com.portfolio.service;
 import com.portfolio.domain.Comment;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
+import com.portfolio.exception.custom.AuthorizationFailedException;
+import com.portfolio.exception.custom.CustomNotFoundException;
+import com.portfolio.repository.comment.CommentOwnership;
 import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.util.EntityLookup;
+import com.portfolio.repository.comment.CommentThreadLoader;
 import com.portfolio.repository.post.PostRepository;
 import com.portfolio.repository.util.MemberUtil;
 import com.portfolio.request.comment.*;
 import com.portfolio.request.common.Page;
+import com.portfolio.response.comment.ChildCommentResponse;
+import com.portfolio.response.comment.CommentEvent;
 import com.portfolio.response.comment.MyCommentResponse;
 import com.portfolio.response.comment.PostCommentResponse;
+import com.portfolio.response.common.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,7 +26,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.portfolio.domain.Comment.*;
-import static com.portfolio.domain.editor.CommentEditor.*;
+import static com.portfolio.exception.custom.CustomNotFoundException.*;
+import static com.portfolio.repository.util.MemberUtil.getAuthenticatedUsername;
+import static com.portfolio.repository.util.MemberUtil.isAdmin;
 
 @Service
 @Transactional(readOnly = true)
@@ -26,34 +36,50 @@ import static com.portfolio.domain.editor.CommentEditor.*;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final EntityLookup entityLookup;
+
+    private final CommentThreadLoader commentThreadLoader;
 
     private final PostRepository postRepository;
 
     private final MemberUtil memberUtil;
 
+    private final PostListCache postListCache;
+
+    private final CommentStream commentStream;
+
 
     /** 댓글 작성 */
     //단건 작성
     @Transactional
     public void writeComment(CreateComment request) {
-        commentRepository.save(createNewComment(request));
+        Comment comment = commentRepository.save(createNewComment(request));
+        postRepository.increaseCommentCount(comment.getPost().getId());
+        postListCache.evictPost(comment.getPost().getId());
+        commentStream.publishAfterCommit(comment.getPost().getId(), CommentEvent.created(comment, getAuthenticatedUsername()));
     }
 
+    //작성자는 프록시로 연결 (회원을 조회하지 않음)
     private Comment createNewComment(CreateComment request) {
-        Member member = memberUtil.getContextMember();
-        Post post = postRepository.findPostById(request.getPostId());
+        Member member = memberUtil.getContextMemberReference();
+        Post post = entityLookup.get(Post.class, request.getPostId(), postRepository::findPostById);
         return createComment(post, member, null, request.getContent());
     }
 
     //대댓글 단건 작성
     @Transactional
     public void writeChildComment(CreateChildComment request) {
-        commentRepository.save(createNewChildComment(request));
+        Comment comment = commentRepository.save(createNewChildComment(request));
+        commentRepository.increaseReplyCount(request.getParentCommentId());
+        postRepository.increaseCommentCount(comment.getPost().getId());
+        postListCache.evictPost(comment.getPost().getId());
+        commentStream.publishAfterCommit(comment.getPost().getId(), CommentEvent.created(comment, getAuthenticatedUsername()));
     }
 
     private Comment createNewChildComment(CreateChildComment request) {
-        Member member = memberUtil.getContextMember();
-        Comment parentComment = commentRepository.findCommentWithPostById(request.getParentCommentId());
+        Member member = memberUtil.getContextMemberReference();
+        Comment parentComment = entityLookup.get(Comment.class, request.getParentCommentId(),
+                commentRepository::findCommentWithPostById);
         Post post = parentComment.getPost();
         return createComment(post, member, parentComment, request.getContent());
     }
@@ -65,7 +91,7 @@ public class CommentService {
      *
      * 1. 해당 글이 삭제된 글인 경우 댓글과 대댓글 목록은 조회되지 않음
      * 2. Soft Delete 처리된 대댓글은 조회 되지 않음
-     * 3. 댓글이 Soft Delete 처리 되었고 해당 댓글에 대댓글이 달리지 않았다면 조회 되지 않음
+     * 3. 댓글이 Soft Delete 처리 되었고 해당 댓글에 대댓글이 달리지 않았다면 조회 되지 않음 (댓글의 대댓글수로 판단)
      * 4. 댓글이 Soft Delete 처리 되었으나 해당 댓글에 대댓글이 달려있는 경우 "삭제된 댓글입니다" 로 표시됨
      * 5. 댓글과 해당 댓글의 대댓글이 모두 Soft Delete 처리가 되었으면 해당 댓글과 대대댓글 모두 보여지지 않음
      *
@@ -77,9 +103,24 @@ public class CommentService {
      *    만약 4번쨰 대댓글이 있었지만 삭제된 경우 보여지지 않음
      */
     public List<PostCommentResponse> findCommentsInPost(SearchCommentsInPost request) {
-        Post post = postRepository.findPostById(request.getId());
-        return commentRepository.findCommentsInPost(post, request.getPage()).stream()
-                .map(PostCommentResponse::new).collect(Collectors.toList());
+        Post post = entityLookup.get(Post.class, request.getId(), postRepository::findPostById);
+        return commentThreadLoader.load(post, request.getPage());
+    }
+
+    //특정 글에 작성된 댓글과 대댓글 목록 커서 기반 조회 (댓글 작성 순서, 조회 규칙은 페이징 조회와 같음)
+    public CursorResponse<PostCommentResponse> findCommentsInPostByCursor(SearchCommentsInPost request) {
+        Post post = entityLookup.get(Post.class, request.getId(), postRepository::findPostById);
+        return commentThreadLoader.loadAfter(post, request.getAfterId(), request.getSize());
+    }
+
+    //특정 댓글에 달린 대댓글 커서 기반 조회 (대댓글 작성 순서, Soft Delete 처리된 대댓글은 조회되지 않음)
+    public CursorResponse<ChildCommentResponse> findReplies(SearchReplies request) {
+        List<ChildCommentResponse> replies = commentRepository
+                .findChildCommentsAfter(request.getParentId(), request.getAfterId(), request.getSize()).stream()
+                .map(ChildCommentResponse::new)
+                .collect(Collectors.toList());
+
+        return CursorResponse.of(replies, request.getSize(), ChildCommentResponse::getId);
     }
 
     // 내가 작성한 댓글과 대댓글  페이징 조회 (다른 회원이 조회 시도시 인가 예외 발생)
@@ -91,25 +132,52 @@ public class CommentService {
      *   ㄴ> 내가 작성한 댓글 1
      */
     public List<MyCommentResponse> findCommentsByMember(Page request) {
-        Member member = memberUtil.getContextMember();
+        Member member = memberUtil.getContextMemberReference();
         return commentRepository.findMyComments(request.getPage(), member).stream()
                 .map(MyCommentResponse::new)
                 .collect(Collectors.toList());
     }
 
     /** 댓글 수정 */
-    //단건 수정
+    //단건 수정 (삭제된 글에 달린 댓글은 수정 불가)
     @Transactional
     public void edit(EditComment request) {
-        Comment comment = commentRepository.findCommentById(request.getCommentId());
-        editComment(request, comment);
+        CommentOwnership comment = getOwnedComment(request.getCommentId(), false);
+        if (Boolean.TRUE.equals(comment.getPostEnabled()) == false) {
+            throw new CustomNotFoundException(POST_NOT_FOUND);
+        }
+        if (commentRepository.editComment(comment.getCommentId(), request.getContent()) == 0) {
+            throw new CustomNotFoundException(COMMENT_NOT_FOUND);
+        }
+        commentStream.publishAfterCommit(comment.getPostId(), CommentEvent.edited(comment, request.getContent()));
     }
 
     /** 댓글 삭제 */
-    //단건 삭제
+    //단건 삭제 (관리자는 타인의 댓글 삭제 가능, 삭제된 글에 달린 댓글도 삭제 가능)
     @Transactional
     public void delete(DeleteComment request) {
-        Comment comment = commentRepository.findCommentById(request.getId());
-        commentRepository.delete(comment);
+        CommentOwnership comment = getOwnedComment(request.getId(), isAdmin());
+        if (commentRepository.softDeleteComment(comment.getCommentId()) == 0) {
+            throw new CustomNotFoundException(COMMENT_NOT_FOUND);
+        }
+        if (comment.getParentId() != null) {
+            commentRepository.decreaseReplyCount(comment.getParentId());
+        }
+        postRepository.decreaseCommentCount(comment.getPostId());
+        postListCache.evictPost(comment.getPostId());
+        commentStream.publishAfterCommit(comment.getPostId(), CommentEvent.deleted(comment));
+    }
+
+    //댓글이 없거나 Soft Delete 처리된 경우, 작성자가 아닌 경우 예외 발생 (댓글 엔티티를 조회하지 않음)
+    private CommentOwnership getOwnedComment(Long commentId, boolean adminBypass) {
+        CommentOwnership comment = commentRepository.findCommentOwnership(commentId);
+
+        if (comment == null) {
+            throw new CustomNotFoundException(COMMENT_NOT_FOUND);
+        }
+        if (comment.isOwnedBy(getAuthenticatedUsername()) == false && adminBypass == false) {
+            throw new AuthorizationFailedException();
+        }
+        return comment;
     }
 }
@@ -0,0 +1,355 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.exception.custom.ServiceUnavailableException;
+import com.portfolio.response.comment.CommentEvent;
+import com.portfolio.response.comment.CommentStreamStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.portfolio.exception.custom.ServiceUnavailableException.COMMENT_STREAM_BUSY;
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+/**
+ * 특정 글에 달린 댓글의 작성, 수정, 삭제 이벤트를 구독자들에게 실시간으로 전달하는 Class (Server-Sent Events)
+ * 글마다 하나의 채널을 두고, 이벤트는 트랜잭션 커밋 후 한번만 직렬화해 채널의 모든 구독자에게 전달함
+ * 응답은 Servlet 비동기 I/O (WriteListener) 로 쓰기 가능한 만큼만 쓰므로, 읽지 않는 구독자가 있어도 스레드가 쓰기에서 멈추지 않음
+ * 구독자마다 MAX_BUFFERED_EVENTS 개까지 전송 대기 이벤트를 보관하고, 넘치거나 SEND_TIMEOUT_MILLIS 동안 쓰지 못하면
+ * (느린 구독자) 해당 구독자의 연결을 끊음
+ * 구독자는 글마다 max-subscribers-per-post 명, 전체 max-subscribers 명까지 받고 넘치면 503 으로 응답함
+ */
+@Component
+public class CommentStream {
+
+    public static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    public static final int MAX_BUFFERED_EVENTS = 100;
+
+    //쓰기가 막힌 후 이 시간안에 다시 쓸수 없으면 느린 구독자로 보고 연결을 끊음
+    public static final long SEND_TIMEOUT_MILLIS = 5000;
+
+    //느린 구독자를 확인하는 주기
+    private static final long CHECK_INTERVAL_MILLIS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribersPerPost;
+    private final int maxSubscribers;
+
+    //글 번호별 구독자
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+
+    //전체 구독자 수 (구독할 때 먼저 늘리고, 넘치거나 구독이 끝나면 줄임)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ScheduledExecutorService watchdog;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder droppedSubscribers = new LongAdder();
+    private final LongAdder rejectedSubscribers = new LongAdder();
+
+    public CommentStream(ObjectMapper objectMapper,
+                         @Value("${comment.stream.max-subscribers-per-post:1000}") int maxSubscribersPerPost,
+                         @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribersPerPost = maxSubscribersPerPost;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * 특정 글의 댓글 이벤트 구독 (연결 직후 connect 이벤트 전송)
+     * 구독자를 먼저 등록한 후 비동기 처리를 시작하므로, 구독자가 넘치면 일반 요청처럼 503 으로 응답함
+     */
+    public void subscribe(Long postId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Subscriber subscriber = register(postId);
+        subscriber.offer(event("connect", null, "connected"));
+
+        response.setContentType(TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(TIMEOUT_MILLIS);
+        subscriber.start(asyncContext);
+    }
+
+    /** 트랜잭션 커밋 후 해당 글의 구독자들에게 이벤트 전달 (롤백되면 전달하지 않음) */
+    public void publishAfterCommit(Long postId, CommentEvent event) {
+        runAfterCommit(() -> publish(postId, event));
+    }
+
+    public CommentStreamStatsResponse getStats() {
+        return CommentStreamStatsResponse.builder()
+                .channels(channels.size())
+                .subscribers(subscriberCount.get())
+                .published(published.sum())
+                .delivered(delivered.sum())
+                .droppedEvents(droppedEvents.sum())
+                .droppedSubscribers(droppedSubscribers.sum())
+                .rejectedSubscribers(rejectedSubscribers.sum())
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleWithFixedDelay(this::checkSubscribers, CHECK_INTERVAL_MILLIS, CHECK_INTERVAL_MILLIS, MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        watchdog.shutdownNow();
+        channels.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+    }
+
+    //전체 구독자 수를 먼저 늘린 후 글의 구독자 수를 확인하며 등록 (어느 쪽이든 넘치면 등록하지 않음)
+    private Subscriber register(Long postId) {
+        Subscriber subscriber = new Subscriber(postId);
+        if (subscriberCount.incrementAndGet() <= maxSubscribers) {
+            Set<Subscriber> subscribers = channels.compute(postId, (id, current) -> {
+                Set<Subscriber> registered = current != null ? current : ConcurrentHashMap.newKeySet();
+                if (registered.size() < maxSubscribersPerPost) {
+                    registered.add(subscriber);
+                }
+                return registered.isEmpty() ? null : registered;
+            });
+            if (subscribers != null && subscribers.contains(subscriber)) {
+                return subscriber;
+            }
+        }
+        subscriberCount.decrementAndGet();
+        rejectedSubscribers.increment();
+        throw new ServiceUnavailableException(COMMENT_STREAM_BUSY);
+    }
+
+    private void checkSubscribers() {
+        long now = System.nanoTime();
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.check(now)));
+    }
+
+    private void publish(Long postId, CommentEvent event) {
+        published.increment();
+        Set<Subscriber> subscribers = channels.get(postId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        byte[] message = event(event.getType(), String.valueOf(event.getCommentId()), serialize(event));
+        subscribers.forEach(subscriber -> subscriber.offer(message));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.postId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //구독자들이 함께 사용하는 이벤트 하나 (SseEmitter 와 같은 형식의 이벤트 이름, 이벤트 id, 데이터)
+    private static byte[] event(String name, String id, String data) {
+        StringBuilder event = new StringBuilder("event:").append(name).append('\n');
+        if (id != null) {
+            event.append("id:").append(id).append('\n');
+        }
+        for (String line : data.split("\n", -1)) {
+            event.append("data:").append(line).append('\n');
+        }
+        return event.append('\n').toString().getBytes(UTF_8);
+    }
+
+    /**
+     * 구독자 하나 (전송 대기 이벤트, 응답 쓰기, 연결 종료는 모두 구독자의 lock 안에서 처리)
+     * 이벤트는 발생한 스레드나 컨테이너가 onWritePossible 을 호출한 스레드에서 쓰기 가능한 만큼만 쓰고 바로 반환함
+     */
+    private class Subscriber implements WriteListener, AsyncListener {
+
+        private final Long postId;
+        private final Queue<byte[]> buffer = new ArrayDeque<>();
+
+        private AsyncContext asyncContext;
+        private ServletOutputStream out;
+        private boolean unflushed;
+        private boolean closed;
+
+        //쓰기가 막힌 시각 (System.nanoTime, 막히지 않았으면 0)
+        private volatile long blockedSince;
+
+        private Subscriber(Long postId) {
+            this.postId = postId;
+        }
+
+        //WriteListener 를 등록하면 컨테이너가 onWritePossible 을 호출해 connect 이벤트부터 씀
+        private void start(AsyncContext asyncContext) throws IOException {
+            synchronized (this) {
+                if (closed == false) {
+                    this.asyncContext = asyncContext;
+                    asyncContext.addListener(this);
+                    out = asyncContext.getResponse().getOutputStream();
+                    out.setWriteListener(this);
+                    return;
+                }
+            }
+            asyncContext.complete();
+        }
+
+        private synchronized void offer(byte[] message) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() >= MAX_BUFFERED_EVENTS) {
+                drop(1);
+                return;
+            }
+            buffer.add(message);
+            write();
+        }
+
+        @Override
+        public synchronized void onWritePossible() {
+            blockedSince = 0;
+            write();
+        }
+
+        /**
+         * isReady 가 true 인 동안만 쓰고, 남은 이벤트를 모두 쓰면 flush
+         * isReady 가 false 이면 쓰기를 멈추고 반환하며, 컨테이너가 쓰기 가능해진 후 onWritePossible 을 호출함
+         */
+        private void write() {
+            if (closed || out == null) {
+                return;
+            }
+            try {
+                while (out.isReady()) {
+                    byte[] message = buffer.poll();
+                    if (message == null) {
+                        if (unflushed == false) {
+                            return;
+                        }
+                        unflushed = false;
+                        out.flush();
+                        continue;
+                    }
+                    out.write(message);
+                    unflushed = true;
+                    delivered.increment();
+                }
+                if (blockedSince == 0) {
+                    blockedSince = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        //쓰기가 SEND_TIMEOUT_MILLIS 넘게 막혀 있으면 연결을 끊음
+        private void check(long now) {
+            long since = blockedSince;
+            if (since != 0 && now - since > MILLISECONDS.toNanos(SEND_TIMEOUT_MILLIS)) {
+                synchronized (this) {
+                    if (blockedSince == since) {
+                        drop(0);
+                    }
+                }
+            }
+        }
+
+        //느린 구독자는 남은 이벤트를 버리고 연결을 끊음 (클라이언트는 재연결 후 댓글 목록을 다시 조회)
+        private synchronized void drop(int rejected) {
+            if (closed) {
+                return;
+            }
+            droppedEvents.add(buffer.size() + rejected);
+            droppedSubscribers.increment();
+            buffer.clear();
+            close();
+        }
+
+        //구독을 해제하고 비동기 처리를 끝냄 (쓰기는 lock 안에서만 하므로 complete 와 겹치지 않음)
+        private void close() {
+            AsyncContext context;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+                context = asyncContext;
+            }
+            unsubscribe(this);
+            if (context != null) {
+                try {
+                    context.complete();
+                } catch (IllegalStateException e) {
+                    //이미 완료된 경우
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+            }
+            unsubscribe(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
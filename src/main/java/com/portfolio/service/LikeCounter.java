@@ -0,0 +1,346 @@
+package com.portfolio.service;
+
+import com.portfolio.repository.post.PostLikeCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 글마다 좋아요수를 세는 Class (좋아요 요청마다 같은 글의 행을 UPDATE 하거나, 조회마다 COUNT 하지 않음)
+ * 메모리에는 post.like_count 에 아직 반영되지 않은 증감량만 글마다 LongAdder 로 세고, flush-interval-ms 마다 한번에 반영한 후 제거함
+ * 좋아요수는 like_count 컬럼 값에 반영되지 않은 증감량을 더해 응답하며, 컬럼 값은 cache-ttl-ms 동안 max-cached-posts 개까지 보관함
+ * (다른 서버에서 반영한 증감량은 보관된 컬럼 값이 만료된 후에 보임)
+ * 좋아요수는 like_count 컬럼과 이 Class 의 증감량으로만 변경함 (목록, 단건 조회 모두 같은 값을 응답)
+ *
+ * 서버가 비정상 종료되면 반영되지 않은 증감량이 유실되므로 좋아요 테이블에서 다시 세어 컬럼을 맞춤
+ * reconcile-interval-ms 마다 그 사이 증감량을 반영한 글을, reconcile-on-startup 이 true 이면 시작할 때 모든 글을 다시 셈
+ * (다른 서버에 반영되지 않은 증감량이 있던 글은 그 서버가 반영한 후 다시 세어질 때까지 잠시 어긋날수 있음)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class LikeCounter {
+
+    //시작할 때 한번에 다시 세는 글 수
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final PostLikeCountRepository postLikeCountRepository;
+    private final long flushIntervalMillis;
+    private final long cacheTtlNanos;
+    private final int maxCachedPosts;
+    private final long reconcileIntervalMillis;
+    private final boolean reconcileOnStartup;
+
+    //글 번호별 아직 반영되지 않은 증감량 (반영된 후 더 이상 증감이 없으면 제거)
+    private final Map<Long, Delta> deltas = new ConcurrentHashMap<>();
+
+    //글 번호별 like_count 컬럼 값 (반영된 증감량은 바로 더해짐)
+    private final Map<Long, Persisted> persisted = new ConcurrentHashMap<>();
+
+    //마지막으로 다시 센 후에 증감량을 반영한 글 번호
+    private final Set<Long> flushedPosts = ConcurrentHashMap.newKeySet();
+
+    //반영을 시작, 종료할 때마다 증가 (홀수면 반영중), 반영 전에 읽은 컬럼 값이 반영된 후에 보관되지 않도록 확인
+    private final AtomicLong flushSeq = new AtomicLong();
+
+    private ScheduledExecutorService flusher;
+
+    public LikeCounter(PostLikeCountRepository postLikeCountRepository,
+                       @Value("${like.counter.flush-interval-ms:1000}") long flushIntervalMillis,
+                       @Value("${like.counter.cache-ttl-ms:5000}") long cacheTtlMillis,
+                       @Value("${like.counter.max-cached-posts:10000}") int maxCachedPosts,
+                       @Value("${like.counter.reconcile-interval-ms:60000}") long reconcileIntervalMillis,
+                       @Value("${like.counter.reconcile-on-startup:true}") boolean reconcileOnStartup) {
+        this.postLikeCountRepository = postLikeCountRepository;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.cacheTtlNanos = MILLISECONDS.toNanos(cacheTtlMillis);
+        this.maxCachedPosts = maxCachedPosts;
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+        this.reconcileOnStartup = reconcileOnStartup;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "like-counter-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::reconcileFlushed, reconcileIntervalMillis, reconcileIntervalMillis, MILLISECONDS);
+        if (reconcileOnStartup) {
+            flusher.execute(() -> reconcileAfter(0L));
+        }
+    }
+
+    /** 남은 증감량까지 반영한 후 종료 */
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        flush();
+    }
+
+    /** 글의 현재 좋아요수 */
+    public long get(Long postId) {
+        return persisted(postId).value + pending(postId);
+    }
+
+    /**
+     * 여러 글의 현재 좋아요수를 한번에 조회 (글 번호 순서 유지)
+     * 글의 존재 여부를 함께 확인하기 위해 like_count 컬럼을 한번에 조회하고, 조회한 값은 보관해 단건 조회에 사용
+     * Soft Delete 처리된 글이나 없는 글은 포함되지 않음
+     */
+    public Map<Long, Long> getAll(Collection<Long> postIds) {
+        long seq = flushSeq.get();
+        Map<Long, Long> loaded = postLikeCountRepository.findLikeCounts(postIds);
+
+        Map<Long, Long> likeCounts = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            Long likeCount = loaded.get(postId);
+            if (likeCount == null) {
+                continue;
+            }
+            //조회하는 동안 반영이 진행된 경우 조회한 값에 반영된 증감량이 포함됐는지 알수 없으므로 다시 조회
+            Persisted cached = cache(postId, likeCount, seq);
+            if (cached == null || cached.isExpired(System.nanoTime())) {
+                cached = persisted(postId);
+            }
+            likeCounts.put(postId, cached.value + pending(postId));
+        }
+        return likeCounts;
+    }
+
+    /**
+     * 글의 증감량과 보관된 컬럼 값을 제거 (좋아요가 일괄 삭제된 글, 다음 조회시 like_count 컬럼에서 다시 읽음)
+     * flush 와 같은 잠금을 사용하므로 반환된 후에는 제거된 증감량이 컬럼에 반영되지 않음
+     */
+    public synchronized void reset(Long postId) {
+        flushSeq.addAndGet(2);
+        Delta delta = deltas.remove(postId);
+        if (delta != null) {
+            delta.removed = true;
+        }
+        persisted.remove(postId);
+    }
+
+    /** 트랜잭션이 커밋된 후에 좋아요수 증감 (롤백되면 반영하지 않음) */
+    public void increaseAfterCommit(Long postId) {
+        runAfterCommit(() -> add(postId, 1));
+    }
+
+    public void decreaseAfterCommit(Long postId) {
+        runAfterCommit(() -> add(postId, -1));
+    }
+
+    //반영되어 제거된 증감량에 더해진 경우 되돌리고 새로 등록된 증감량에 다시 더함
+    private void add(Long postId, long amount) {
+        while (true) {
+            Delta delta = deltas.computeIfAbsent(postId, id -> new Delta());
+            delta.sum.add(amount);
+            if (delta.removed == false) {
+                return;
+            }
+            delta.sum.add(-amount);
+        }
+    }
+
+    /** like_count 컬럼에 아직 반영되지 않은 증감량 (목록 조회처럼 컬럼 값을 직접 읽은 경우 더해서 응답) */
+    public long pending(Long postId) {
+        Delta delta = deltas.get(postId);
+        return delta != null ? delta.sum.sum() : 0;
+    }
+
+    //보관된 컬럼 값이 없거나 만료되면 다시 읽음 (반영중이면 반영이 끝난 후에 읽음)
+    private Persisted persisted(Long postId) {
+        Persisted cached = persisted.get(postId);
+        if (cached != null && cached.isExpired(System.nanoTime()) == false) {
+            return cached;
+        }
+        while (true) {
+            long seq = flushSeq.get();
+            if (seq % 2 == 0) {
+                cached = cache(postId, postLikeCountRepository.findLikeCount(postId), seq);
+                if (cached != null && cached.isExpired(System.nanoTime()) == false) {
+                    return cached;
+                }
+            }
+            synchronized (this) {
+                //반영이 끝날 때까지 대기
+            }
+        }
+    }
+
+    //반영중이 아닐때 읽었고 그 후로 반영이 시작되지 않은 경우에만 읽은 값을 보관 (보관하지 못하면 기존에 보관된 값 반환)
+    private Persisted cache(Long postId, long likeCount, long loadedSeq) {
+        Persisted cached = persisted.compute(postId, (id, previous) ->
+                loadedSeq % 2 == 0 && flushSeq.get() == loadedSeq ? new Persisted(likeCount) : previous);
+        if (persisted.size() > maxCachedPosts) {
+            evict();
+        }
+        return cached;
+    }
+
+    //만료된 값을 제거하고, 그래도 max-cached-posts 를 넘으면 오래전에 읽은 값부터 제거
+    private void evict() {
+        long now = System.nanoTime();
+        persisted.values().removeIf(cached -> cached.isExpired(now));
+
+        int excess = persisted.size() - maxCachedPosts;
+        if (excess > 0) {
+            List<Long> oldest = persisted.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().loadedAt))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            oldest.forEach(persisted::remove);
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 증감량을 like_count 컬럼에 한번에 반영 (실패하면 다음 주기에 다시 반영)
+     * 반영이 끝나면 반영한 만큼 보관된 컬럼 값에 더하고 증감량에서 빼며, 더 이상 증감이 없는 글과 만료된 컬럼 값은 제거함
+     */
+    public synchronized void flush() {
+        Map<Long, Long> flushing = new HashMap<>();
+        deltas.forEach((postId, delta) -> {
+            long sum = delta.sum.sum();
+            if (sum != 0) {
+                flushing.put(postId, sum);
+            }
+        });
+
+        if (flushing.isEmpty() == false) {
+            flushSeq.incrementAndGet();
+            try {
+                postLikeCountRepository.addLikeCounts(flushing);
+                flushedPosts.addAll(flushing.keySet());
+                flushing.forEach((postId, sum) -> {
+                    persisted.computeIfPresent(postId, (id, cached) -> cached.plus(sum));
+                    add(postId, -sum);
+                });
+            } catch (RuntimeException e) {
+                log.warn("좋아요수 반영 실패 (글 {}개)", flushing.size(), e);
+            } finally {
+                flushSeq.incrementAndGet();
+            }
+        }
+
+        removeIdleDeltas();
+        long now = System.nanoTime();
+        persisted.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    /**
+     * 좋아요 테이블에서 글들의 좋아요수를 다시 세어 like_count 컬럼을 맞춤
+     * flush 와 같은 잠금을 사용하며, 세는 동안 읽은 컬럼 값은 보관되지 않고 기존에 보관된 값은 제거함
+     */
+    public synchronized void reconcile(Collection<Long> postIds) {
+        Map<Long, Long> pendingDeltas = new HashMap<>();
+        postIds.forEach(postId -> pendingDeltas.put(postId, pending(postId)));
+
+        flushSeq.incrementAndGet();
+        try {
+            postLikeCountRepository.recountLikeCounts(pendingDeltas);
+        } finally {
+            postIds.forEach(persisted::remove);
+            flushSeq.incrementAndGet();
+        }
+    }
+
+    //마지막으로 다시 센 후에 증감량을 반영한 글만 다시 셈 (실패하면 다음 주기에 다시 셈)
+    private void reconcileFlushed() {
+        List<Long> postIds = List.copyOf(flushedPosts);
+        if (postIds.isEmpty()) {
+            return;
+        }
+        flushedPosts.removeAll(postIds);
+        try {
+            reconcile(postIds);
+        } catch (RuntimeException e) {
+            flushedPosts.addAll(postIds);
+            log.warn("좋아요수 다시 세기 실패 (글 {}개)", postIds.size(), e);
+        }
+    }
+
+    //시작할 때 모든 글을 RECONCILE_CHUNK_SIZE 개씩 다시 셈 (한번에 한 묶음씩 실행해 그 사이에 증감량 반영이 실행되도록 함)
+    private void reconcileAfter(Long afterId) {
+        try {
+            List<Long> postIds = postLikeCountRepository.findPostIdsAfter(afterId, RECONCILE_CHUNK_SIZE);
+            if (postIds.isEmpty()) {
+                return;
+            }
+            reconcile(postIds);
+            Long lastId = postIds.get(postIds.size() - 1);
+            if (flusher.isShutdown()) {
+                return;
+            }
+            flusher.execute(() -> reconcileAfter(lastId));
+        } catch (RuntimeException e) {
+            log.warn("시작시 좋아요수 다시 세기 실패 (글 번호 {} 이후)", afterId, e);
+        }
+    }
+
+    //제거 표시를 먼저 한 후 증감량을 확인 (확인하는 사이에 더해진 증감량은 add 에서 새로 등록된 증감량으로 옮김)
+    private void removeIdleDeltas() {
+        deltas.forEach((postId, delta) -> {
+            delta.removed = true;
+            if (delta.sum.sum() == 0) {
+                deltas.remove(postId, delta);
+            } else {
+                delta.removed = false;
+            }
+        });
+    }
+
+    //글 하나의 아직 반영되지 않은 증감량
+    private static class Delta {
+
+        private final LongAdder sum = new LongAdder();
+        private volatile boolean removed;
+    }
+
+    //글 하나의 like_count 컬럼 값과 읽은 시각
+    private class Persisted {
+
+        private final long value;
+        private final long loadedAt;
+
+        private Persisted(long value) {
+            this(value, System.nanoTime());
+        }
+
+        private Persisted(long value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        //반영한 증감량을 더한 값 (읽은 시각은 유지)
+        private Persisted plus(long delta) {
+            return new Persisted(Math.max(value + delta, 0), loadedAt);
+        }
+
+        private boolean isExpired(long now) {
+            return now - loadedAt > cacheTtlNanos;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 삭제된 글의 좋아요를 요청 스레드가 아닌 별도의 스레드에서 일괄 삭제하는 Class
+ * LikeService 의 프록시를 통해 호출하므로 purgeLikes 의 트랜잭션 설정이 적용됨 (같은 Class 안에서 호출하면 프록시를 거치지 않음)
+ * 대기중인 삭제가 MAX_PENDING 개를 넘으면 더 받지 않음 (관리자가 다시 삭제할 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikePurger {
+
+    public static final int MAX_PENDING = 1000;
+
+    private final LikeService likeService;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS, new LinkedBlockingQueue<>(MAX_PENDING), runnable -> {
+            Thread thread = new Thread(runnable, "like-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** 맡겨진 삭제를 마친 후 종료 (최대 30초) */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 지금까지 맡겨진 삭제가 모두 끝날 때까지 대기 (스레드 하나로 순서대로 삭제하므로 뒤에 맡긴 빈 작업이 끝나면 앞의 삭제도 끝난 것)
+     * timeout 안에 끝나지 않으면 TimeoutException 발생
+     */
+    public void awaitPurged(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        try {
+            executor.submit(() -> { }).get(timeout, unit);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** 글 삭제 트랜잭션이 커밋된 후에 좋아요 일괄 삭제를 맡김 (실패해도 글 삭제는 유지됨) */
+    public void purgeAfterCommit(Long postId) {
+        runAfterCommit(() -> submit(postId));
+    }
+
+    private void submit(Long postId) {
+        try {
+            executor.execute(() -> purge(postId));
+        } catch (RejectedExecutionException e) {
+            log.warn("글 {} 의 좋아요 삭제를 맡기지 못함 (대기중인 삭제가 너무 많음)", postId);
+        }
+    }
+
+    private void purge(Long postId) {
+        try {
+            log.info("글 {} 의 좋아요 {}개 삭제", postId, likeService.purgeLikes(postId));
+        } catch (RuntimeException e) {
+            log.warn("글 {} 의 좋아요 삭제 실패", postId, e);
+        }
+    }
+}
@@ -1,68 +1,144 @@
 package com.portfolio.service;
 
-import com.portfolio.domain.Like;
-import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
-import com.portfolio.repository.like.LikeRepository;
-import com.portfolio.repository.post.PostRepository;
+import com.portfolio.exception.custom.CustomBadRequestException;
+import com.portfolio.exception.custom.CustomNotFoundException;
+import com.portfolio.repository.like.LikeBulkDeleteRepository;
+import com.portfolio.repository.like.LikeUpsertRepository;
+import com.portfolio.repository.util.EntityLookup;
+import com.portfolio.repository.member.MemberRepository;
 import com.portfolio.repository.util.MemberUtil;
+import com.portfolio.repository.post.PostRepository;
 import com.portfolio.request.like.CancelLike;
 import com.portfolio.request.like.CreateLike;
+import com.portfolio.request.like.SearchPostLikes;
 import com.portfolio.request.like.SearchSinglePostLike;
+import com.portfolio.response.like.PostLikeStatusResponse;
 import com.portfolio.response.like.SinglePostLikeResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.portfolio.exception.custom.CustomBadRequestException.DUPLICATED_LIKE;
+import static com.portfolio.exception.custom.CustomNotFoundException.LIKE_NOT_FOUND;
+import static com.portfolio.exception.custom.CustomNotFoundException.MEMBER_NOT_FOUND;
+import static com.portfolio.exception.custom.CustomNotFoundException.POST_NOT_FOUND;
+import static com.portfolio.repository.util.MemberUtil.getAuthenticatedUsername;
+import static com.portfolio.repository.util.MemberUtil.isAuthenticated;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class LikeService {
 
-    private final LikeRepository likeRepository;
-
+    private final LikeUpsertRepository likeUpsertRepository;
+    private final LikeBulkDeleteRepository likeBulkDeleteRepository;
+    private final EntityLookup entityLookup;
     private final MemberUtil memberUtil;
 
     private final PostRepository postRepository;
 
-    /** 좋아요 누름 */
+    private final MemberRepository memberRepository;
+
+    private final PostListCache postListCache;
+
+    private final LikeCounter likeCounter;
+
+    private final LikedPostIndex likedPostIndex;
+
+    /** 좋아요 누름 (회원을 조회하지 않고 INSERT 한번으로 처리, 저장되지 않은 경우에만 글, 회원 순서로 원인을 조회) */
     @Transactional
     public void createLike(CreateLike request) {
-        likeRepository.save(createNewLike(request));
+        String username = getAuthenticatedUsername();
+        Long memberId = memberUtil.findContextMemberId();
+        if (memberId == null || likeUpsertRepository.insertIfAbsent(request.getPostId(), memberId) == false) {
+            checkPostExists(request.getPostId());
+            checkMemberExists(memberId);
+            throw new CustomBadRequestException(DUPLICATED_LIKE);
+        }
+        likeCounter.increaseAfterCommit(request.getPostId());
+        likedPostIndex.addAfterCommit(username, request.getPostId());
+        postListCache.evictPostLikes(request.getPostId());
     }
 
-    private Like createNewLike(CreateLike request) {
-        Member member = memberUtil.getContextMember();
-        Post post = postRepository.findPostById(request.getPostId());
-        return Like.builder().member(member).post(post).build();
-    }
-
-    /** 좋아요 취소 */
+    /** 좋아요 취소 (DELETE 한번으로 처리, 삭제되지 않은 경우에만 원인을 조회) */
     @Transactional
     public void cancelLike(CancelLike request) {
-        Like like = findExistingLike(request);
-        likeRepository.delete(like);
+        String username = getAuthenticatedUsername();
+        Long memberId = memberUtil.findContextMemberId();
+        if (memberId == null || likeUpsertRepository.deleteIfPresent(request.getPostId(), memberId) == false) {
+            checkPostExists(request.getPostId());
+            checkMemberExists(memberId);
+            throw new CustomNotFoundException(LIKE_NOT_FOUND);
+        }
+        likeCounter.decreaseAfterCommit(request.getPostId());
+        likedPostIndex.removeAfterCommit(username, request.getPostId());
+        postListCache.evictPostLikes(request.getPostId());
     }
 
-    private Like findExistingLike(CancelLike request) {
-        Post post = postRepository.findPostById(request.getPostId());
-        Member member = memberUtil.getContextMember();
-        return likeRepository.findByPostAndMember(post, member);
+    /**
+     * 글에 달린 좋아요 일괄 삭제 (좋아요를 엔티티로 불러오지 않고 DELETE 문을 나눠서 실행, 삭제된 좋아요 수 반환)
+     * 삭제 전후로 카운터를 제거해 아직 반영되지 않은 증감량이나 삭제 중에 읽어온 좋아요수가 남지 않도록 함
+     */
+    @Transactional(propagation = NOT_SUPPORTED)
+    public long purgeLikes(Long postId) {
+        likeCounter.reset(postId);
+        long deleted = likeBulkDeleteRepository.deleteLikesByPost(postId);
+        likeCounter.reset(postId);
+
+        likedPostIndex.removePost(postId);
+        postListCache.evictPostLikes(postId);
+        return deleted;
+    }
+
+    //글이 없거나 Soft Delete 처리된 경우 예외 발생
+    private void checkPostExists(Long postId) {
+        if (postId == null || postRepository.findPostById(postId) == null) {
+            throw new CustomNotFoundException(POST_NOT_FOUND);
+        }
+    }
+
+    //로그인한 회원이 없거나 탈퇴, 강퇴된 경우 예외 발생
+    private void checkMemberExists(Long memberId) {
+        if (memberId == null || memberRepository.isActiveMember(memberId) == false) {
+            throw new CustomNotFoundException(MEMBER_NOT_FOUND);
+        }
     }
 
     /** 특정 글에 달린 좋아요 개수와 내가 좋아요를 눌렀는지 조회 */
     public SinglePostLikeResponse searchPostLikes(SearchSinglePostLike request) {
-        Post post = postRepository.findPostById(request.getPostId());
+        Post post = entityLookup.get(Post.class, request.getPostId(), postRepository::findPostById);
         return getSinglePostLikeResponse(post);
     }
 
     private SinglePostLikeResponse getSinglePostLikeResponse(Post post) {
 
-        //해당 글에 달린 총 좋아요 수
-        Long totalLikes = likeRepository.findLikeCountByPost(post);
+        //해당 글에 달린 총 좋아요 수 (좋아요 테이블을 COUNT 하지 않고 LikeCounter 에서 조회)
+        Long totalLikes = likeCounter.get(post.getId());
 
-        //해당 글에 내가 좋아요를 눌렀는지 여부
-        Boolean likedPost = likeRepository.pressedLikeOnThisPost(post);
+        //해당 글에 내가 좋아요를 눌렀는지 여부 (좋아요 테이블을 조회하지 않고 LikedPostIndex 에서 확인)
+        Boolean likedPost = isAuthenticated() && likedPostIndex.contains(getAuthenticatedUsername(), post.getId());
         return new SinglePostLikeResponse(totalLikes, likedPost);
     }
+
+    /**
+     * 여러 글의 좋아요 개수와 내가 좋아요를 눌렀는지 한번에 조회 (요청한 글 번호 순서, 없거나 삭제된 글은 제외)
+     * 좋아요 수는 글 번호 목록으로 한번에 조회하고, 내가 좋아요를 눌렀는지는 LikedPostIndex 에서 한번에 확인
+     */
+    public List<PostLikeStatusResponse> searchPostLikes(SearchPostLikes request) {
+        Map<Long, Long> likeCounts = likeCounter.getAll(request.getPostIds());
+        Set<Long> likedPosts = isAuthenticated() ?
+                likedPostIndex.filterLiked(getAuthenticatedUsername(), likeCounts.keySet()) : Collections.emptySet();
+
+        return likeCounts.entrySet().stream()
+                .map(entry -> new PostLikeStatusResponse(entry.getKey(), entry.getValue(), likedPosts.contains(entry.getKey())))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,195 @@
+package com.portfolio.service;
+
+import com.portfolio.repository.like.LikeRepository;
+import com.portfolio.response.like.LikedPostIndexStatsResponse;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 회원별로 좋아요를 누른 글 번호를 압축 비트맵(Roaring Bitmap)으로 보관해 "내가 좋아요를 눌렀는지" 를 SQL 없이 확인하는 Class
+ * 회원의 비트맵은 처음 확인할 때 좋아요 테이블에서 읽어오고, 이후 좋아요와 좋아요 취소는 트랜잭션 커밋 후 회원별 잠금을 잡고 비트맵에 바로 반영함
+ * 비트맵은 ttl-ms 동안 max-members 명까지 보관하고, 넘치면 가장 오래전에 확인한 회원부터 제거함
+ * (다른 서버에서 처리된 좋아요는 보관된 비트맵이 만료된 후에 보임)
+ */
+@Component
+public class LikedPostIndex {
+
+    private final LikeRepository likeRepository;
+    private final long ttlNanos;
+    private final int maxMembers;
+
+    //회원 이름별 비트맵 (읽어오는 중이면 비트맵이 없는 Entry)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LikedPostIndex(LikeRepository likeRepository,
+                          @Value("${like.index.ttl-ms:10000}") long ttlMillis,
+                          @Value("${like.index.max-members:10000}") int maxMembers) {
+        this.likeRepository = likeRepository;
+        this.ttlNanos = MILLISECONDS.toNanos(ttlMillis);
+        this.maxMembers = maxMembers;
+    }
+
+    /** 회원이 해당 글에 좋아요를 눌렀는지 확인 (비트맵이 없거나 만료되면 좋아요 테이블에서 읽어옴) */
+    public boolean contains(String username, Long postId) {
+        Entry entry = load(username);
+        synchronized (entry) {
+            return entry.postIds.contains(postId);
+        }
+    }
+
+    /** 여러 글 중 회원이 좋아요를 누른 글 번호만 반환 */
+    public Set<Long> filterLiked(String username, Collection<Long> postIds) {
+        Entry entry = load(username);
+        Set<Long> liked = new HashSet<>();
+        synchronized (entry) {
+            for (Long postId : postIds) {
+                if (entry.postIds.contains(postId)) {
+                    liked.add(postId);
+                }
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 읽어오는 동안 표시를 남겨두고, 읽은 후 표시가 그대로인 경우에만 보관
+     * 읽는 동안 좋아요나 좋아요 취소가 반영되면 표시가 제거되어 보관하지 않음 (다음 확인시 다시 읽어옴)
+     */
+    private Entry load(String username) {
+        long now = System.nanoTime();
+        Entry cached = entries.get(username);
+        if (cached != null && cached.isLoaded() && cached.isExpired(now) == false) {
+            hits.increment();
+            cached.lastAccessedAt = now;
+            return cached;
+        }
+
+        misses.increment();
+        Entry loading = new Entry(null);
+        entries.put(username, loading);
+
+        Roaring64NavigableMap postIds = new Roaring64NavigableMap();
+        likeRepository.findLikedPostIds(username).forEach(postIds::addLong);
+        postIds.runOptimize();
+        Entry loaded = new Entry(postIds);
+
+        if (entries.replace(username, loading, loaded) && entries.size() > maxMembers) {
+            evict();
+        }
+        return loaded;
+    }
+
+    //만료된 비트맵을 제거하고, 그래도 max-members 를 넘으면 가장 오래전에 확인한 회원부터 제거
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int excess = entries.size() - maxMembers;
+        if (excess > 0) {
+            List<Map.Entry<String, Entry>> leastRecentlyUsed = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessedAt))
+                    .limit(excess)
+                    .collect(Collectors.toList());
+            leastRecentlyUsed.forEach(entry -> {
+                if (entries.remove(entry.getKey(), entry.getValue())) {
+                    evictions.increment();
+                }
+            });
+        }
+    }
+
+    /** 트랜잭션이 커밋된 후 비트맵에 반영 (비트맵이 없는 회원은 다음에 확인할 때 읽어오므로 반영하지 않음) */
+    public void addAfterCommit(String username, Long postId) {
+        runAfterCommit(() -> update(username, postId, true));
+    }
+
+    public void removeAfterCommit(String username, Long postId) {
+        runAfterCommit(() -> update(username, postId, false));
+    }
+
+    //보관된 비트맵은 회원의 잠금을 잡고 바로 반영하고, 읽어오는 중이면 표시를 제거
+    private void update(String username, Long postId, boolean liked) {
+        entries.computeIfPresent(username, (key, entry) -> entry.isLoaded() ? entry.update(postId, liked) : null);
+    }
+
+    /** 보관중인 모든 회원의 비트맵에서 글 번호 제거 (좋아요가 일괄 삭제된 글) */
+    public void removePost(Long postId) {
+        for (String username : entries.keySet()) {
+            update(username, postId, false);
+        }
+    }
+
+    public LikedPostIndexStatsResponse getStats() {
+        int members = 0;
+        long likedPostCount = 0;
+        long sizeInBytes = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.isLoaded()) {
+                synchronized (entry) {
+                    members++;
+                    likedPostCount += entry.postIds.getLongCardinality();
+                    sizeInBytes += entry.postIds.getLongSizeInBytes();
+                }
+            }
+        }
+
+        return LikedPostIndexStatsResponse.builder()
+                .members(members)
+                .likedPosts(likedPostCount)
+                .sizeInBytes(sizeInBytes)
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(evictions.sum())
+                .build();
+    }
+
+    //회원 한명이 좋아요를 누른 글 번호와 읽은 시각, 마지막으로 확인한 시각 (글 번호는 이 객체의 잠금을 잡고 읽고 변경)
+    private class Entry {
+
+        private final Roaring64NavigableMap postIds;
+        private final long loadedAt;
+        private volatile long lastAccessedAt;
+
+        private Entry(Roaring64NavigableMap postIds) {
+            this.postIds = postIds;
+            this.loadedAt = System.nanoTime();
+            this.lastAccessedAt = loadedAt;
+        }
+
+        //글 번호를 추가하거나 제거 (읽은 시각은 유지)
+        private synchronized Entry update(Long postId, boolean liked) {
+            if (liked) {
+                postIds.addLong(postId);
+            } else {
+                postIds.removeLong(postId);
+            }
+            return this;
+        }
+
+        private boolean isLoaded() {
+            return postIds != null;
+        }
+
+        private boolean isExpired(long now) {
+            return now - loadedAt > ttlNanos;
+        }
+    }
+}
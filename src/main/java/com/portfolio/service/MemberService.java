@@ -12,6 +12,9 @@ import com.portfolio.request.member.SignUp;
 import com.portfolio.response.member.MemberProfileForAdminResponse;
 import com.portfolio.response.member.MemberBasicProfileResponse;
 import com.portfolio.response.member.MyProfileResponse;
+import com.portfolio.security.service.PrincipalCache;
+import com.portfolio.security.service.RevokedMembers;
+import com.portfolio.security.service.RevokedTokens;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -41,6 +44,12 @@ public class MemberService {
 
     private final MemberUtil memberUtil;
 
+    private final PrincipalCache principalCache;
+
+    private final RevokedMembers revokedMembers;
+
+    private final RevokedTokens revokedTokens;
+
     /**
      * 회원가입
      */
@@ -58,6 +67,7 @@ public class MemberService {
         Member member = memberUtil.getContextMember();
         String newEncodedPassword = encoder.encode(request.getNewPassword());
         editPassword(member, newEncodedPassword);
+        principalCache.evictAfterCommit(member);
     }
 
     /**
@@ -65,7 +75,11 @@ public class MemberService {
      */
     @Transactional
     public void unregister() {
-        memberRepository.delete(memberUtil.getContextMember());
+        Member member = memberUtil.getContextMember();
+        memberRepository.delete(member);
+        principalCache.evictAfterCommit(member);
+        revokedMembers.revokeAfterCommit(member.getId());
+        revokedTokens.revokeMember(member.getId());
         clearContext();
     }
 
@@ -74,6 +88,9 @@ public class MemberService {
     public void unregisterByAdmin(String username) {
         Member member = memberRepository.findActiveMemberByUsername(username);
         memberRepository.delete(member);
+        principalCache.evictAfterCommit(member);
+        revokedMembers.revokeAfterCommit(member.getId());
+        revokedTokens.revokeMember(member.getId());
     }
 
     /**
@@ -0,0 +1,208 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.response.post.BoardPostResponse;
+import com.portfolio.response.post.PostListCacheStatsResponse;
+import com.portfolio.response.post.PostResponse;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.portfolio.repository.util.TransactionUtil.runAfterCommit;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * 전체글, 게시판별 글 목록 앞쪽 페이지의 응답(JSON)과 목록의 총 글 수를 캐싱하는 Class
+ * 최대 MAX_ENTRIES 개까지 보관하고, 넘치면 가장 오래 조회되지 않은 페이지부터 제거함 (LRU)
+ * 캐싱된 페이지 조회는 잠금 없이 처리하고, 페이지를 새로 저장할 때만 보관 개수를 확인함
+ * 글, 댓글, 좋아요가 변경되면 트랜잭션 커밋 후 변경된 값을 보여주는 페이지만 제거함
+ * 다른 서버에서 일어난 변경은 알수 없으므로 페이지는 ttl-ms 동안만 보관함 (만료된 페이지는 다음 조회시 다시 조회)
+ */
+@Component
+public class PostListCache {
+
+    //캐싱할 페이지 (1 ~ CACHED_PAGES 페이지)
+    public static final int CACHED_PAGES = 3;
+
+    public static final int MAX_ENTRIES = 500;
+
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+
+    private final Map<String, CachedPage> entries = new ConcurrentHashMap<>();
+
+    //캐시가 무효화될 때마다 증가. 조회 도중 무효화가 일어났다면 조회 결과를 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public PostListCache(ObjectMapper objectMapper, @Value("${post.list-cache.ttl-ms:5000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.ttlNanos = MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /** 전체글 페이징 조회 (총 글 수는 counter 로 조회) */
+    public CachedList getAllPosts(int page, Supplier<List<PostResponse>> loader, Supplier<Long> counter) {
+        return get("all:" + page, null, page, loader, counter, PostResponse::getPostId);
+    }
+
+    /** 특정 게시판에 작성된 글 페이징 조회 (총 글 수는 counter 로 조회) */
+    public CachedList getBoardPosts(Long boardId, int page, int size, Supplier<List<BoardPostResponse>> loader,
+                                    Supplier<Long> counter) {
+        return get("board:" + boardId + ":" + page + ":" + size, boardId, page, loader, counter,
+                BoardPostResponse::getPostId);
+    }
+
+    /** 글의 제목, 댓글수가 변경된 경우 해당 글이 포함된 페이지만 제거 */
+    public void evictPost(Long postId) {
+        invalidateAfterCommit(entry -> entry.postIds.contains(postId));
+    }
+
+    /** 글의 좋아요수가 변경된 경우 (좋아요수는 게시판 목록에만 표시되므로 전체글 목록은 제거하지 않음) */
+    public void evictPostLikes(Long postId) {
+        invalidateAfterCommit(entry -> entry.boardId != null && entry.postIds.contains(postId));
+    }
+
+    /** 글이 작성, 삭제되어 페이지 구성과 총 글 수가 바뀐 경우 전체글 목록과 해당 게시판의 목록을 제거 */
+    public void evictBoard(Long boardId) {
+        invalidateAfterCommit(entry -> entry.boardId == null || entry.boardId.equals(boardId));
+    }
+
+    public PostListCacheStatsResponse getStats() {
+        return PostListCacheStatsResponse.builder()
+                .size(entries.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .build();
+    }
+
+    private <T> CachedList get(String key, Long boardId, int page, Supplier<List<T>> loader, Supplier<Long> counter,
+                               Function<T, Long> idExtractor) {
+        if (page > CACHED_PAGES) {
+            return new CachedList(serialize(loader.get()), counter.get());
+        }
+
+        CachedPage entry = entries.get(key);
+        if (entry != null && entry.isExpired(System.nanoTime()) == false) {
+            entry.lastAccessed = System.nanoTime();
+            hits.increment();
+            return entry.list;
+        }
+        misses.increment();
+
+        long loadedVersion = version.get();
+        List<T> posts = loader.get();
+        CachedList list = new CachedList(serialize(posts), counter.get());
+        Set<Long> postIds = posts.stream().map(idExtractor).collect(Collectors.toUnmodifiableSet());
+
+        /*
+         * 무효화는 version 을 먼저 올린 뒤 페이지를 제거하므로,
+         * 저장한 뒤에 version 이 그대로라면 이후의 무효화가 이 페이지를 제거하고, 바뀌었다면 여기서 직접 제거함
+         */
+        CachedPage loaded = new CachedPage(list, boardId, postIds);
+        entries.put(key, loaded);
+        if (version.get() != loadedVersion) {
+            entries.remove(key, loaded);
+        } else if (entries.size() > MAX_ENTRIES) {
+            evict();
+        }
+        return list;
+    }
+
+    /**
+     * 만료된 페이지를 제거하고, 그래도 보관 개수를 넘으면 가장 오래 조회되지 않은 페이지부터 제거
+     * (새 페이지를 저장할 때만 실행되므로 전체를 훑어도 부담이 적음)
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        entries.forEach((key, entry) -> {
+            if (entry.isExpired(now) && entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        });
+
+        while (entries.size() > MAX_ENTRIES) {
+            Map.Entry<String, CachedPage> eldest = null;
+            for (Map.Entry<String, CachedPage> candidate : entries.entrySet()) {
+                if (eldest == null || candidate.getValue().lastAccessed - eldest.getValue().lastAccessed < 0) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void invalidateAfterCommit(Predicate<CachedPage> condition) {
+        runAfterCommit(() -> {
+            version.incrementAndGet();
+            entries.forEach((key, entry) -> {
+                if (condition.test(entry) && entries.remove(key, entry)) {
+                    invalidations.increment();
+                }
+            });
+        });
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 글 목록 한 페이지의 응답 JSON 과 목록의 총 글 수 */
+    @Getter
+    public static class CachedList {
+
+        private final byte[] body;
+        private final long totalCount;
+
+        private CachedList(byte[] body, long totalCount) {
+            this.body = body;
+            this.totalCount = totalCount;
+        }
+    }
+
+    //캐싱된 페이지 하나 (응답, 게시판 번호(전체글 목록이면 null), 페이지에 포함된 글 번호, 저장한 시각, 마지막 조회 시각)
+    private class CachedPage {
+
+        private final CachedList list;
+        private final Long boardId;
+        private final Set<Long> postIds;
+        private final long loadedAt = System.nanoTime();
+        private volatile long lastAccessed = loadedAt;
+
+        private CachedPage(CachedList list, Long boardId, Set<Long> postIds) {
+            this.list = list;
+            this.boardId = boardId;
+            this.postIds = postIds;
+        }
+
+        private boolean isExpired(long now) {
+            return now - loadedAt > ttlNanos;
+        }
+    }
+}
@@ -1,25 +1,33 @@
 package com.portfolio.service;
 
 import com.portfolio.domain.Board;
+import com.portfolio.exception.custom.AuthorizationFailedException;
+import com.portfolio.exception.custom.CustomNotFoundException;
+import com.portfolio.repository.board.BoardPostCountRepository;
+import com.portfolio.repository.board.BoardRegistry;
 import com.portfolio.repository.board.BoardRepository;
 import com.portfolio.repository.like.LikeRepository;
 import com.portfolio.repository.member.MemberRepository;
 import com.portfolio.repository.util.MemberUtil;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
+import com.portfolio.repository.post.PostOwnership;
 import com.portfolio.repository.post.PostRepository;
+import com.portfolio.request.common.Cursor;
 import com.portfolio.request.common.Page;
 import com.portfolio.request.post.*;
+import com.portfolio.response.common.CursorResponse;
 import com.portfolio.response.post.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static com.portfolio.domain.editor.PostEditor.editPost;
+import static com.portfolio.exception.custom.CustomNotFoundException.POST_NOT_FOUND;
+import static com.portfolio.repository.util.MemberUtil.getAuthenticatedUsername;
+import static com.portfolio.repository.util.MemberUtil.isAdmin;
 import static com.portfolio.request.post.CreatePost.createPost;
 
 @Service
@@ -29,20 +37,27 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
+    private final BoardRegistry boardRegistry;
+    private final BoardPostCountRepository boardPostCountRepository;
     private final LikeRepository likeRepository;
     private final MemberRepository memberRepository;
     private final MemberUtil memberUtil;
+    private final PostListCache postListCache;
+    private final LikeCounter likeCounter;
+    private final LikePurger likePurger;
 
 
     /** 작성 기능 */
     @Transactional
     public void write(CreatePost request) {
-        postRepository.save(createNewPost(request));
+        Post post = postRepository.save(createNewPost(request));
+        boardPostCountRepository.increasePostCount(post.getBoard().getId());
+        postListCache.evictBoard(post.getBoard().getId());
     }
 
     private Post createNewPost(CreatePost request) {
-        Member member = memberUtil.getContextMember();
-        Board board = boardRepository.findByBoardName(request.getBoardName());
+        Member member = memberUtil.getContextMemberReference();
+        Board board = boardRepository.getReferenceById(boardRegistry.getId(request.getBoardName()));
 
         return createPost(member, board, request);
     }
@@ -57,60 +72,112 @@ public class PostService {
 
     //전체글 페이징 조회
     public List<PostResponse> findPosts(Page request) {
-        return postRepository.findAllPosts(request.getPage()).stream()
-                .map(PostResponse::new).collect(Collectors.toList());
+        return postRepository.findAllPosts(request.getPage());
     }
 
     //특정 게시판에 작성된 글 페이징 조회 (탈퇴한 회원의 글 조회 불가)
     public List<BoardPostResponse> findPostsByBoard(SearchPostsByBoard request) {
-        List<Post> posts = postRepository.findPostsByBoard(request);
+        Long boardId = boardRegistry.getId(request.getBoard());
+        return withPendingLikes(postRepository.findPostsByBoard(boardId, request));
+    }
+
+    //작성된 전체글 수 (COUNT 쿼리 없이 게시판별로 관리되는 글 수를 합산)
+    public Long countPosts() {
+        return boardPostCountRepository.findTotalPostCount();
+    }
+
+    //특정 게시판에 작성된 글 수
+    public Long countPostsByBoard(SearchPostsByBoard request) {
+        return boardPostCountRepository.findPostCount(boardRegistry.getId(request.getBoard()));
+    }
 
-       return posts.isEmpty() ? new ArrayList<>() : posts.stream().map(BoardPostResponse::new)
-               .collect(Collectors.toList());
+    //전체글 커서 기반 조회
+    public CursorResponse<PostResponse> findPostsByCursor(Cursor request) {
+        List<PostResponse> posts = postRepository.findAllPostsBefore(request.getBeforeId(), request.getSize());
+
+        return CursorResponse.of(posts, request.getSize(), PostResponse::getPostId);
+    }
+
+    //특정 게시판에 작성된 글 커서 기반 조회 (탈퇴한 회원의 글 조회 불가)
+    public CursorResponse<BoardPostResponse> findPostsByBoardByCursor(SearchPostsByBoard request) {
+        Long boardId = boardRegistry.getId(request.getBoard());
+        List<BoardPostResponse> posts = withPendingLikes(postRepository.findPostsByBoardBefore(boardId, request));
+
+        return CursorResponse.of(posts, request.getSize(), BoardPostResponse::getPostId);
     }
 
     //특정 회원의 작성글 페이징 조회 (삭제된 글은 조회되지 않음, 탈퇴한 회원의 작성글도 조회 가능)
     public List<MemberPostResponse> findPostsByMember(String username, Page request) {
         Member member = memberUtil.getMember(username);
-        List<Post> posts = postRepository.findPostsByMember(member, request.getPage());
-
-        return posts.isEmpty() ? new ArrayList<>() : posts.stream().map(MemberPostResponse::new)
-                .collect(Collectors.toList());
+        return postRepository.findPostsByMember(member, request.getPage());
     }
 
     //특정 회원이 댓글단 글 페이징 조회 (Soft Delete 처리된 글은 조회되지 않음, 탈퇴한 회원이 댓글단글 조회 불가)
     public List<MemberCommentPostResponse> findPostsCommentedByMember(String username, Page page) {
         Member member = memberUtil.getActiveMember(username);
-        List<Post> posts = postRepository.findPostsCommentedMyMember(member, page.getPage());
+        return postRepository.findPostsCommentedMyMember(member, page.getPage());
+    }
 
-        return posts.isEmpty() ? new ArrayList<>() : posts.stream().map(MemberCommentPostResponse::new)
+    //특정 회원이 댓글단 글 커서 기반 조회 (회원이 마지막으로 댓글을 작성한 순서, 커서는 회원의 마지막 댓글 번호)
+    public CursorResponse<MemberCommentPostResponse> findPostsCommentedByMemberByCursor(String username, Cursor request) {
+        Member member = memberUtil.getActiveMember(username);
+        List<MemberCommentPostResponse> posts = postRepository
+                .findPostsCommentedByMemberBefore(member, request.getBeforeId(), request.getSize());
+
+        return CursorResponse.of(posts, request.getSize(), MemberCommentPostResponse::getLastCommentId);
+    }
+
+    //조회한 like_count 컬럼 값에 LikeCounter 에서 아직 반영되지 않은 증감량을 더함 (글 단건의 좋아요수와 같은 값)
+    private List<BoardPostResponse> withPendingLikes(List<BoardPostResponse> posts) {
+        return posts.stream()
+                .map(p -> p.withTotalLikes((int) Math.max(p.getTotalLikes() + likeCounter.pending(p.getPostId()), 0)))
                 .collect(Collectors.toList());
     }
 
     //내가 좋아요 누른글 페이징 조회 (Soft Delete 처리된 글은 조회되지 않음)
     /** 현재 사용자 본인만 조회 가능. 타인이 조회 시도시 인가 예외 발생 */
     public List<MyLikedPostResponse> findMyLikedPosts(Page request) {
-        List<Post> posts = postRepository.findMyLikedPosts(request.getPage());
-        return posts.isEmpty() ? new ArrayList<>() : posts.stream().map(MyLikedPostResponse::new)
-                .collect(Collectors.toList());
+        return postRepository.findMyLikedPosts(request.getPage());
     }
 
 
     /** 수정 기능 */
-    //글 수정
+    //글 수정 (작성자 확인과 수정을 UPDATE 문 하나로 처리, 수정되지 않은 경우에만 원인을 조회)
     @Transactional
     public void edit(EditPost request) {
-        Post post = postRepository.findPostWithMemberById(request.getPostId());
-        editPost(request, post);
+        if (postRepository.editPost(request, getAuthenticatedUsername()) == 0) {
+            getOwnedPost(request.getPostId(), false);
+            //글과 작성자 확인은 통과했지만 수정되지 않은 경우 (확인하는 사이에 삭제된 경우)
+            throw new CustomNotFoundException(POST_NOT_FOUND);
+        }
+        postListCache.evictPost(request.getPostId());
     }
 
 
     /** 삭제 기능 */
 
-    //글 삭제
+    //글 삭제 (관리자는 타인의 글 삭제 가능, 글에 달린 좋아요는 커밋된 후에 일괄 삭제)
     @Transactional
     public void delete(DeletePost request) {
-        Post post = postRepository.findPostWithMemberById(request.getId());
-        postRepository.delete(post);
+        PostOwnership post = getOwnedPost(request.getId(), isAdmin());
+        if (postRepository.softDeletePost(post.getPostId()) == 0) {
+            throw new CustomNotFoundException(POST_NOT_FOUND);
+        }
+        boardPostCountRepository.decreasePostCount(post.getBoardId());
+        postListCache.evictBoard(post.getBoardId());
+        likePurger.purgeAfterCommit(post.getPostId());
+    }
+
+    //글이 없거나 Soft Delete 처리된 경우, 작성자가 아닌 경우 예외 발생
+    private PostOwnership getOwnedPost(Long postId, boolean adminBypass) {
+        PostOwnership post = postRepository.findPostOwnership(postId);
+
+        if (post == null) {
+            throw new CustomNotFoundException(POST_NOT_FOUND);
+        }
+        if (post.isOwnedBy(getAuthenticatedUsername()) == false && adminBypass == false) {
+            throw new AuthorizationFailedException();
+        }
+        return post;
     }
 }
@@ -0,0 +1,85 @@
+-- local 프로필에서 Hibernate 가 테이블을 생성한 후에 실행됨 (spring.jpa.defer-datasource-initialization)
+-- 운영 DB 에는 새 버전을 배포하기 전에 한번 적용 (모든 문장은 여러번 실행해도 결과가 같음)
+
+-- 1. 컬럼, 테이블 추가 (Hibernate 가 생성한 테이블에는 이미 있으므로 로컬에서는 아무것도 하지 않음)
+
+-- 글의 댓글수, 좋아요수 (Post.commentCount, likeCount)
+ALTER TABLE post ADD COLUMN IF NOT EXISTS comment_count integer NOT NULL DEFAULT 0;
+ALTER TABLE post ADD COLUMN IF NOT EXISTS like_count integer NOT NULL DEFAULT 0;
+
+-- 댓글의 대댓글수 (Comment.replyCount)
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS reply_count integer NOT NULL DEFAULT 0;
+
+-- 게시판별 글 수를 나눠 담는 행 (BoardPostCount, BoardPostCountRepository 가 INSERT ... ON CONFLICT 로 증감)
+CREATE TABLE IF NOT EXISTS board_post_count (
+    board_post_count_id bigserial PRIMARY KEY,
+    board_id bigint REFERENCES board (board_id),
+    stripe integer,
+    post_count bigint
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_board_post_count_stripe ON board_post_count (board_id, stripe);
+
+-- 토큰 방식 로그인에서 폐기된 토큰 id (RevokedToken, RevokedTokenRepository 가 INSERT ... ON CONFLICT 로 저장)
+CREATE TABLE IF NOT EXISTS revoked_token (
+    revoked_token_id bigserial PRIMARY KEY,
+    token_id varchar(255) NOT NULL,
+    revoked_at bigint NOT NULL,
+    expires_at bigint NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_revoked_token_token_id ON revoked_token (token_id);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_revoked_at ON revoked_token (revoked_at);
+
+-- 2. 기존 데이터로 카운터 채우기 (값이 다른 행만 갱신하므로 다시 실행하면 바뀌는 행이 없음)
+
+-- Soft Delete 처리되지 않은 댓글과 대댓글 수
+UPDATE post p SET comment_count = c.cnt
+FROM (SELECT post.post_id, count(comment.comment_id) AS cnt
+      FROM post LEFT JOIN comment ON comment.post_id = post.post_id AND comment.is_enabled = true
+      GROUP BY post.post_id) c
+WHERE p.post_id = c.post_id AND p.comment_count IS DISTINCT FROM c.cnt;
+
+-- 좋아요 수 (좋아요 테이블 기준으로 다시 계산)
+UPDATE post p SET like_count = l.cnt
+FROM (SELECT post.post_id, count(likes.like_id) AS cnt
+      FROM post LEFT JOIN likes ON likes.post_id = post.post_id
+      GROUP BY post.post_id) l
+WHERE p.post_id = l.post_id AND p.like_count IS DISTINCT FROM l.cnt;
+
+-- Soft Delete 처리되지 않은 대댓글 수
+UPDATE comment p SET reply_count = r.cnt
+FROM (SELECT parent.comment_id, count(child.comment_id) AS cnt
+      FROM comment parent LEFT JOIN comment child ON child.parent_id = parent.comment_id AND child.is_enabled = true
+      GROUP BY parent.comment_id) r
+WHERE p.comment_id = r.comment_id AND p.reply_count IS DISTINCT FROM r.cnt;
+
+-- 게시판별 글 수는 stripe 0 번 행에 담음 (이미 행이 있는 게시판은 증감되고 있으므로 건너뜀)
+INSERT INTO board_post_count (board_id, stripe, post_count)
+SELECT board.board_id, 0, count(post.post_id)
+FROM board LEFT JOIN post ON post.board_id = board.board_id AND post.is_enabled = true
+WHERE NOT EXISTS (SELECT 1 FROM board_post_count c WHERE c.board_id = board.board_id)
+GROUP BY board.board_id;
+
+-- 3. 인덱스
+-- Soft Delete 처리되지 않은 행만 조회하는 쿼리용 부분 인덱스 (JPA 로는 정의할수 없어 SQL 로 생성)
+
+-- 게시판별 글 목록, 글 수 (PostRepositoryImpl.findPostsByBoard, findPostsByBoardBefore)
+CREATE INDEX IF NOT EXISTS idx_post_enabled_board_id ON post (board_id, post_id) WHERE is_enabled = true;
+
+-- 회원별 작성글 목록 (PostRepositoryImpl.findPostsByMember, findPostCountByMember)
+CREATE INDEX IF NOT EXISTS idx_post_enabled_member_id ON post (member_id, post_id) WHERE is_enabled = true;
+
+-- 전체글 목록 (PostRepositoryImpl.findAllPosts, findAllPostsBefore)
+CREATE INDEX IF NOT EXISTS idx_post_enabled_post_id ON post (post_id) WHERE is_enabled = true;
+
+-- 댓글은 Soft Delete 처리된 댓글도 조회하는 쿼리가 있어 (대댓글이 있는 삭제된 댓글, 회원별 댓글 수) Comment 의 전체 인덱스를 사용
+-- 엔티티의 @Table(indexes) 와 같은 인덱스 (로컬에서는 Hibernate 가 이미 생성함)
+CREATE INDEX IF NOT EXISTS idx_comment_post_id ON comment (post_id, parent_id);
+CREATE INDEX IF NOT EXISTS idx_comment_parent_id ON comment (parent_id);
+CREATE INDEX IF NOT EXISTS idx_comment_member_id ON comment (member_id, comment_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_likes_post_id ON likes (post_id, member_id);
+CREATE INDEX IF NOT EXISTS idx_likes_member_id ON likes (member_id, like_id);
+
+-- 로그인시 회원 이름 또는 이메일을 대소문자 구분 없이 조회, 회원가입시 중복 확인 (MemberRepositoryImpl.findByUsernameOrEmail, isUsernameTaken, isEmailTaken)
+-- 대소문자만 다른 회원 이름, 이메일로는 가입할수 없음
+CREATE UNIQUE INDEX IF NOT EXISTS uk_member_username_lower ON member (lower(username));
+CREATE UNIQUE INDEX IF NOT EXISTS uk_member_email_lower ON member (lower(email));
@@ -3,6 +3,7 @@ package com.portfolio.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.controller.factory.BoardFactory;
 import com.portfolio.controller.factory.CommentFactory;
+import com.portfolio.controller.factory.LikeFactory;
 import com.portfolio.controller.factory.MemberFactory;
 import com.portfolio.controller.factory.PostFactory;
 import com.portfolio.domain.Board;
@@ -11,6 +12,7 @@ import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
 import com.portfolio.repository.board.BoardRepository;
 import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.like.LikeRepository;
 import com.portfolio.repository.member.MemberRepository;
 import com.portfolio.repository.post.PostRepository;
 import com.portfolio.request.board.CreateBoard;
@@ -65,6 +67,12 @@ public class AdminControllerTest {
     @Autowired
     private CommentFactory commentFactory;
 
+    @Autowired
+    private LikeFactory likeFactory;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -94,6 +102,11 @@ public class AdminControllerTest {
 
         Board board = boardRepository.findByBoardName("free");
         assertEquals("자유게시판", board.getNickname());
+
+        //생성된 게시판은 커밋 후 게시판 목록에 바로 반영된다
+        mockMvc.perform(get("/board"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.boardName == 'free')].nickname").value("자유게시판"));
     }
 
     @DisplayName("게시판 생성시 이름은 필수다")
@@ -155,6 +168,59 @@ public class AdminControllerTest {
                 .andDo(print());
     }
 
+    @DisplayName("글 목록 캐시 현황 조회")
+    @Test
+    void test41() throws Exception {
+        //when
+        mockMvc.perform(get("/posts/view?page=1"));
+        mockMvc.perform(get("/posts/view?page=1"));
+
+        //then
+        mockMvc.perform(get("/admin/cache/posts")
+                        .with(user("userDD").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").isNumber())
+                .andExpect(jsonPath("$.evictions").isNumber())
+                .andExpect(jsonPath("$.hitRatio").isNumber())
+                .andDo(print());
+
+        mockMvc.perform(get("/admin/cache/posts")
+                        .with(user("userDD").roles("MEMBER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("관리자는 댓글 실시간 전달 현황을 조회할 수 있다")
+    @Test
+    void test42() throws Exception {
+        mockMvc.perform(get("/admin/streams/comments")
+                        .with(user("userDD").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.subscribers").isNumber())
+                .andExpect(jsonPath("$.droppedEvents").isNumber())
+                .andExpect(jsonPath("$.droppedSubscribers").isNumber())
+                .andDo(print());
+
+        mockMvc.perform(get("/admin/streams/comments")
+                        .with(user("userDD").roles("MEMBER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("관리자는 좋아요 비트맵 현황을 조회할 수 있다")
+    @Test
+    void test43() throws Exception {
+        mockMvc.perform(get("/admin/cache/likes")
+                        .with(user("userDD").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members").isNumber())
+                .andExpect(jsonPath("$.sizeInBytes").isNumber())
+                .andExpect(jsonPath("$.evictions").isNumber())
+                .andDo(print());
+
+        mockMvc.perform(get("/admin/cache/likes")
+                        .with(user("userDD").roles("MEMBER")))
+                .andExpect(status().isForbidden());
+    }
+
     /**
      * 회원 조회
      */
@@ -314,6 +380,38 @@ public class AdminControllerTest {
                 .andDo(print());
     }
 
+    @DisplayName("관리자는 글에 달린 좋아요를 한번에 삭제할수 있다 (삭제된 글에 남은 좋아요 정리)")
+    @Test
+    void test44() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("APL");
+        Member member = memberFactory.createMember("purgeLikeWriter");
+        Post post = postFactory.createPost(member, board, true);
+        likeFactory.createLikes(post, "purgeLikeMember", 30);
+        postRepository.delete(post);
+        assertEquals(30, likeRepository.findLikeCountByPost(post));
+
+        //when
+        mockMvc.perform(delete("/admin/posts/{postId}/likes", post.getId())
+                        .with(user("userDD").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        //then
+        assertEquals(0, likeRepository.findLikeCountByPost(post));
+
+        //이미 삭제된 경우에도 정상 처리
+        mockMvc.perform(delete("/admin/posts/{postId}/likes", post.getId())
+                        .with(user("userDD").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/admin/posts/{postId}/likes", post.getId())
+                        .with(user("userDD").roles("MEMBER"))
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
     /**
      * 회원 강퇴
      */
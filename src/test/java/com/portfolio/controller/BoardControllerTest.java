@@ -2,9 +2,10 @@ package com.portfolio.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.controller.factory.MemberFactory;
-import com.portfolio.domain.Board;
 import com.portfolio.repository.board.BoardRepository;
 import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.request.board.CreateBoard;
+import com.portfolio.service.BoardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,8 +14,6 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -32,6 +31,9 @@ public class BoardControllerTest {
     @Autowired
     private BoardRepository boardRepository;
 
+    @Autowired
+    private BoardService boardService;
+
     @BeforeEach
     void clear() {
         boardRepository.deleteAll();
@@ -42,13 +44,12 @@ public class BoardControllerTest {
     @Test
     void test1() throws Exception {
         //given
-        List<Board> list = IntStream.rangeClosed(1, 20).mapToObj(i ->
-                Board.builder()
+        IntStream.rangeClosed(1, 20).forEach(i ->
+                boardService.create(CreateBoard.builder()
                         .boardName("board " + i)
                         .nickname("게시판 " + i)
-                        .build()
-        ).collect(Collectors.toList());
-        boardRepository.saveAll(list);
+                        .build())
+        );
 
         //then
         mockMvc.perform(get("/board"))
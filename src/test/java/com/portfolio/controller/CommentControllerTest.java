@@ -20,6 +20,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.is;
@@ -107,6 +109,7 @@ public class CommentControllerTest {
         assertEquals("제목", comment.getPost().getTitle());
         assertEquals("내용", comment.getPost().getContent());
         assertEquals("user2", comment.getMember().getUsername());
+        assertEquals(1, postRepository.findById(post.getId()).get().getCommentCount());
     }
 
     @DisplayName("글 작성자가 댓글 작성을 허용하지 않을경우 댓글 작성할수 없다")
@@ -891,6 +894,135 @@ public class CommentControllerTest {
 
 
 
+    @DisplayName("특정 글에 달린 댓글들 목록 조회시 삭제되지 않은 대댓글만 작성 순서대로 조회된다")
+    @Test
+    void test11231240() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("thread");
+        Member member = memberFactory.createMember("threadMember");
+        Post post = postFactory.createPost(member, board, true);
+        Comment parentComment = commentFactory.createParentComment(post, member, "댓글");
+        Comment otherParentComment = commentFactory.createParentComment(post, member, "다른 댓글");
+        commentFactory.createChildComment(post, member, parentComment, "대댓글 1");
+        Comment deletedChild = commentFactory.createChildComment(post, member, parentComment, "대댓글 2");
+        commentFactory.createChildComment(post, member, otherParentComment, "다른 대댓글");
+        commentFactory.createChildComment(post, member, parentComment, "대댓글 3");
+        commentRepository.delete(deletedChild);
+
+        //then
+        mockMvc.perform(get("/comments?id={postId}&page={page}", post.getId(), 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].childComments.length()").value(2))
+                .andExpect(jsonPath("$.[0].childComments.[0].content").value("대댓글 1"))
+                .andExpect(jsonPath("$.[0].childComments.[0].parentCommentId").value(parentComment.getId()))
+                .andExpect(jsonPath("$.[0].childComments.[1].content").value("대댓글 3"))
+                .andExpect(jsonPath("$.[1].childComments.length()").value(1))
+                .andExpect(jsonPath("$.[1].childComments.[0].content").value("다른 대댓글"))
+                .andDo(print());
+    }
+
+
+
+    @DisplayName("특정 글에 달린 댓글들 커서 기반 조회시 작성 순서대로 이어서 조회된다")
+    @Test
+    void test11231241() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("commentCursor");
+        Member member = memberFactory.createMember("commentCursorMember");
+        Post post = postFactory.createPost(member, board, true);
+        List<Comment> comments = IntStream.rangeClosed(1, 15)
+                .mapToObj(i -> commentFactory.createParentComment(post, member, i + " 번째 댓글"))
+                .collect(Collectors.toList());
+
+        //then
+        mockMvc.perform(get("/comments?id={postId}&afterId=0&size=10", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(jsonPath("$.content.[0].content").value("1 번째 댓글"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(comments.get(9).getId()))
+                .andDo(print());
+
+        mockMvc.perform(get("/comments?id={postId}&afterId={afterId}&size=10", post.getId(), comments.get(9).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content.[0].content").value("11 번째 댓글"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andDo(print());
+    }
+
+    @DisplayName("댓글 목록에는 댓글마다 대댓글이 10개까지 포함되고, 나머지 대댓글은 커서 기반으로 이어서 조회한다")
+    @Test
+    void test11231242() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("replyCursor");
+        Member member = memberFactory.createMember("replyCursorMember");
+        Post post = postFactory.createPost(member, board, true);
+        Comment parentComment = commentFactory.createParentComment(post, member, "댓글");
+        List<Comment> replies = IntStream.rangeClosed(1, 13)
+                .mapToObj(i -> commentFactory.createChildComment(post, member, parentComment, i + " 번째 대댓글"))
+                .collect(Collectors.toList());
+        commentFactory.createParentComment(post, member, "대댓글이 없는 댓글");
+
+        //then
+        mockMvc.perform(get("/comments?id={postId}&page={page}", post.getId(), 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].childComments.length()").value(10))
+                .andExpect(jsonPath("$.[0].childComments.[9].content").value("10 번째 대댓글"))
+                .andExpect(jsonPath("$.[0].hasMoreReplies").value(true))
+                .andExpect(jsonPath("$.[0].nextReplyCursor").value(replies.get(9).getId()))
+                .andExpect(jsonPath("$.[1].childComments.length()").value(0))
+                .andExpect(jsonPath("$.[1].hasMoreReplies").value(false))
+                .andDo(print());
+
+        mockMvc.perform(get("/comments/replies?parentId={parentId}&afterId={afterId}",
+                        parentComment.getId(), replies.get(9).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content.[0].content").value("11 번째 대댓글"))
+                .andExpect(jsonPath("$.content.[0].parentCommentId").value(parentComment.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+
+    @DisplayName("대댓글이거나 존재하지 않는 댓글의 대댓글은 조회할 수 없다")
+    @Test
+    void test11231243() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("replyNotFound");
+        Member member = memberFactory.createMember("replyNotFoundMember");
+        Post post = postFactory.createPost(member, board, true);
+        Comment parentComment = commentFactory.createParentComment(post, member, "댓글");
+        Comment childComment = commentFactory.createChildComment(post, member, parentComment, "대댓글");
+
+        //then
+        mockMvc.perform(get("/comments/replies?parentId={parentId}", childComment.getId()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("댓글이 존재하지 않거나 삭제되었습니다"))
+                .andDo(print());
+
+        mockMvc.perform(get("/comments/replies?parentId=abc"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("댓글이 존재하지 않거나 삭제되었습니다"))
+                .andDo(print());
+    }
+
+
+
+    @DisplayName("존재하지 않는 글의 댓글 이벤트는 구독할 수 없다")
+    @Test
+    void test11231245() throws Exception {
+        mockMvc.perform(get("/comments/stream?id={postId}", 123456789))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("게시글이 존재하지 않거나 삭제되었습니다"))
+                .andDo(print());
+    }
+
+
+
     /**
      * 내가 작성한 댓글, 대댓글들 페이징 조회
      * 타인이 조회 시도시 인가 예외 발생
@@ -1707,6 +1839,7 @@ public class CommentControllerTest {
                 .andDo(print());
 
         assertEquals(0, commentRepository.countActiveComments());
+        assertEquals(0, postRepository.findById(post.getId()).get().getCommentCount());
     }
 
     @DisplayName("대댓글 삭제")
@@ -1731,6 +1864,39 @@ public class CommentControllerTest {
         assertEquals(1, commentRepository.countActiveComments());
     }
 
+    @DisplayName("댓글과 대댓글이 모두 삭제되면 해당 댓글은 글의 댓글 목록에서 조회되지 않는다")
+    @Test
+    void test471() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("replyCount");
+        Member member = memberFactory.createMember("replyCountMember");
+        Post post = postFactory.createPost(member, board, true);
+        Comment deletedThread = commentFactory.createParentComment(post, member, "대댓글까지 삭제될 댓글");
+        Comment deletedChild = commentFactory.createChildComment(post, member, deletedThread, "삭제할 대댓글");
+        Comment remainingThread = commentFactory.createParentComment(post, member, "대댓글이 남아있는 댓글");
+        commentFactory.createChildComment(post, member, remainingThread, "남아있는 대댓글");
+
+        //when
+        for (Long id : new Long[]{deletedChild.getId(), deletedThread.getId(), remainingThread.getId()}) {
+            mockMvc.perform(delete("/comments?id=" + id)
+                            .with(user("replyCountMember"))
+                            .with(csrf()))
+                    .andExpect(status().isOk());
+        }
+
+        //then
+        assertEquals(0, commentRepository.findById(deletedThread.getId()).get().getReplyCount());
+        assertEquals(1, commentRepository.findById(remainingThread.getId()).get().getReplyCount());
+
+        mockMvc.perform(get("/comments?id={postId}&page={page}", post.getId(), 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$.[0].id").value(remainingThread.getId()))
+                .andExpect(jsonPath("$.[0].content").value("삭제된 댓글입니다"))
+                .andExpect(jsonPath("$.[0].childComments.length()").value(1))
+                .andDo(print());
+    }
+
 
     @DisplayName("댓글 삭제 잘못된 요청 (필수 파라미터 누락 또는 잘못된 형식)")
     @Test
@@ -0,0 +1,246 @@
+package com.portfolio.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.controller.factory.BoardFactory;
+import com.portfolio.controller.factory.MemberFactory;
+import com.portfolio.domain.Board;
+import com.portfolio.domain.Comment;
+import com.portfolio.domain.Member;
+import com.portfolio.domain.Post;
+import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.post.PostRepository;
+import com.portfolio.request.comment.CreateComment;
+import com.portfolio.response.comment.CommentEvent;
+import com.portfolio.service.CommentStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 댓글 실시간 전달 (CommentStream) 테스트
+ * 응답을 Servlet 비동기 I/O 로 쓰므로 MockMvc 대신 실행중인 서버에 HTTP 로 구독함 (댓글 작성, 삭제는 MockMvc 사용)
+ * 설정이 다른 ApplicationContext 가 시작될 때 테이블을 다시 만들어 다른 테스트에 영향을 주지 않도록 별도의 메모리 DB 사용
+ */
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+        "comment.stream.max-subscribers-per-post=2",
+        "comment.stream.max-subscribers=6",
+        "spring.datasource.url=jdbc:h2:mem:commentstream;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+public class CommentStreamTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    BoardFactory boardFactory;
+
+    @Autowired
+    MemberFactory memberFactory;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    CommentStream commentStream;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    //테스트에서 연 구독 (테스트가 끝나면 닫음)
+    private final List<HttpResponse<Stream<String>>> streams = new ArrayList<>();
+
+    @AfterEach
+    void afterEach() {
+        streams.forEach(stream -> stream.body().close());
+    }
+
+    @DisplayName("특정 글의 댓글 이벤트를 구독하면 댓글 작성, 삭제 이벤트를 실시간으로 전달받는다")
+    @Test
+    void test1() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("commentStream");
+        Member member = memberFactory.createMember("commentStreamMember");
+        Post post = createPost(member, board);
+
+        HttpResponse<Stream<String>> stream = subscribe(post.getId());
+        assertEquals(200, stream.statusCode());
+        assertTrue(stream.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+        Iterator<String> lines = stream.body().iterator();
+
+        //when
+        String json = objectMapper.writeValueAsString(CreateComment.builder()
+                .content("실시간 댓글")
+                .postId(post.getId())
+                .build());
+        mockMvc.perform(post("/comments")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(user("commentStreamMember"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        Comment comment = commentRepository.findCommentsInPost(post, 1).get(0);
+        mockMvc.perform(delete("/comments?id=" + comment.getId())
+                        .with(user("commentStreamMember"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        //then
+        String events = readUntil(lines, "event:deleted");
+        assertTrue(events.contains("event:connect"));
+        assertTrue(events.contains("event:created\nid:" + comment.getId()));
+        assertTrue(events.contains("\"content\":\"실시간 댓글\""));
+        assertTrue(events.contains("event:deleted\nid:" + comment.getId()));
+    }
+
+    @DisplayName("응답을 읽지 않는 구독자는 이벤트를 발생시킨 스레드를 멈추지 않고 연결이 끊기며, 다른 구독자는 계속 전달받는다")
+    @Test
+    void test2() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("slowStream");
+        Member member = memberFactory.createMember("slowStreamMember");
+        Post slowPost = createPost(member, board);
+        Post post = createPost(member, board);
+
+        int subscribers = commentStream.getStats().getSubscribers();
+        long droppedSubscribers = commentStream.getStats().getDroppedSubscribers();
+        try (Socket slowClient = new Socket()) {
+            //수신 버퍼를 작게 하고 응답을 읽지 않는 구독자
+            slowClient.setReceiveBufferSize(4096);
+            slowClient.connect(new java.net.InetSocketAddress("localhost", port));
+            OutputStream out = slowClient.getOutputStream();
+            out.write(("GET /comments/stream?id=" + slowPost.getId() + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            awaitSubscribers(subscribers + 1);
+
+            Iterator<String> lines = subscribe(post.getId()).body().iterator();
+            readUntil(lines, "event:connect");
+
+            //when
+            String content = "가".repeat(64 * 1024);
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (long i = 1; i <= 300; i++) {
+                    commentStream.publishAfterCommit(slowPost.getId(), CommentEvent.created(i, "slowStreamMember", content));
+                }
+            });
+            commentStream.publishAfterCommit(post.getId(), CommentEvent.created(1000L, "slowStreamMember", "다른 글의 댓글"));
+
+            //then
+            assertEquals(droppedSubscribers + 1, commentStream.getStats().getDroppedSubscribers());
+            assertTrue(readUntil(lines, "event:created").contains("다른 글의 댓글"));
+        }
+    }
+
+    @DisplayName("글마다, 전체 구독자 수 제한을 넘으면 구독할 수 없다")
+    @Test
+    @DirtiesContext
+    void test3() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("fullStream");
+        Member member = memberFactory.createMember("fullStreamMember");
+        Post post = createPost(member, board);
+        long rejected = commentStream.getStats().getRejectedSubscribers();
+
+        //글마다 2명까지
+        assertEquals(200, subscribe(post.getId()).statusCode());
+        assertEquals(200, subscribe(post.getId()).statusCode());
+        HttpResponse<Stream<String>> full = subscribe(post.getId());
+        assertEquals(503, full.statusCode());
+        assertTrue(String.join("", full.body().toArray(String[]::new)).contains("실시간 댓글 구독자가 많아 연결하지 못했습니다"));
+
+        //전체 6명까지
+        while (commentStream.getStats().getSubscribers() < 6) {
+            assertEquals(200, subscribe(createPost(member, board).getId()).statusCode());
+        }
+        assertEquals(503, subscribe(createPost(member, board).getId()).statusCode());
+
+        assertEquals(6, commentStream.getStats().getSubscribers());
+        assertEquals(rejected + 2, commentStream.getStats().getRejectedSubscribers());
+    }
+
+    //게시판 글 수는 PostgreSQL 의 INSERT ... ON CONFLICT 로 증감하므로 글만 저장
+    private Post createPost(Member member, Board board) {
+        return postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .member(member)
+                .board(board)
+                .commentsAllowed(true)
+                .build());
+    }
+
+    private HttpResponse<Stream<String>> subscribe(Long postId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/comments/stream?id=" + postId))
+                .build();
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        streams.add(response);
+        return response;
+    }
+
+    //기대하는 이벤트의 마지막 줄(빈 줄)까지 읽음 (최대 5초)
+    private String readUntil(Iterator<String> lines, String expected) {
+        return assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            StringBuilder events = new StringBuilder();
+            boolean found = false;
+            while (lines.hasNext()) {
+                String line = lines.next();
+                events.append(line).append('\n');
+                found = found || line.equals(expected);
+                if (found && line.isEmpty()) {
+                    break;
+                }
+            }
+            return events.toString();
+        });
+    }
+
+    //연결이 구독자로 등록될 때까지 대기 (최대 5초)
+    private void awaitSubscribers(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && commentStream.getStats().getSubscribers() < expected; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(expected, commentStream.getStats().getSubscribers());
+    }
+}
@@ -7,17 +7,44 @@ import com.portfolio.repository.member.MemberRepository;
 import com.portfolio.repository.board.BoardRepository;
 import com.portfolio.repository.comment.CommentRepository;
 import com.portfolio.repository.like.LikeRepository;
+import com.portfolio.repository.post.PostLikeCountRepository;
 import com.portfolio.repository.post.PostRepository;
 import com.portfolio.request.like.CreateLike;
+import com.portfolio.security.service.CustomUser;
+import com.portfolio.service.LikeCounter;
+import com.portfolio.service.LikePurger;
+import com.portfolio.service.LikedPostIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.portfolio.domain.MemberRole.ROLE_MEMBER;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -25,6 +52,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -65,6 +93,24 @@ public class LikeControllerTest {
     @Autowired
     private BoardFactory boardFactory;
 
+    @Autowired
+    private LikeCounter likeCounter;
+
+    @Autowired
+    private PostLikeCountRepository postLikeCountRepository;
+
+    @Autowired
+    private LikedPostIndex likedPostIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LikePurger likePurger;
+
 
     @BeforeEach
     void clear() {
@@ -100,6 +146,8 @@ public class LikeControllerTest {
         Like like = likeRepository.findWithPostAndMemberById(likeId);
         assertEquals("qwer", like.getMember().getUsername());
         assertEquals("내용", like.getPost().getContent());
+        likeCounter.flush();
+        assertEquals(1, postRepository.findById(post.getId()).get().getLikeCount());
     }
 
     @DisplayName("좋아요 요청 잘못된 요청 (필수 파라미터 누락 또는 잘못된 형식)")
@@ -210,6 +258,8 @@ public class LikeControllerTest {
 
         //then
         assertEquals(0, likeRepository.count());
+        likeCounter.flush();
+        assertEquals(0, postRepository.findById(post.getId()).get().getLikeCount());
     }
 
     @DisplayName("존재하지 않는 글에 좋아요 취소를 할수 없다")
@@ -337,7 +387,7 @@ public class LikeControllerTest {
         IntStream.rangeClosed(1, 50).forEach(i -> {
             Member factoryMember = memberFactory.createMember("likeAB1 " + i);
             Like like = likeFactory.createLike(post, factoryMember);
-            likeRepository.delete(like);
+            likeFactory.cancelLike(like);
         });
 
         //when
@@ -361,4 +411,452 @@ public class LikeControllerTest {
                 .andExpect(jsonPath("$.message").value("게시글이 존재하지 않거나 삭제되었습니다"))
                 .andDo(print());
     }
+
+    @DisplayName("좋아요와 좋아요 취소는 총 좋아요 수에 바로 반영되고, 글의 좋아요수에는 한번에 반영된다")
+    @Test
+    void test15() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LCT");
+        Member member = memberFactory.createMember("likeCounterWriter");
+        Post post = postFactory.createPost(member, board, true);
+        IntStream.rangeClosed(1, 3).forEach(i -> memberFactory.createMember("likeCounter" + i));
+
+        //when
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/likes?postId=" + post.getId())
+                            .with(user("likeCounter" + i))
+                            .with(csrf()))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(delete("/likes?postId=" + post.getId())
+                        .with(user("likeCounter1"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/likes?postId=" + post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLikes").value(2))
+                .andDo(print());
+
+        likeCounter.flush();
+        assertEquals(2, postRepository.findById(post.getId()).get().getLikeCount());
+    }
+
+    @DisplayName("좋아요수는 좋아요수 컬럼에 아직 반영되지 않은 증감량을 더해 응답하고, 반영된 후에도 같은 값을 응답한다")
+    @Test
+    void test16() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LRC");
+        Member member = memberFactory.createMember("likeDeltaWriter");
+        Post post = postFactory.createPost(member, board, true);
+        likeCounter.flush();
+        mockMvc.perform(get("/likes?postId=" + post.getId()))
+                .andExpect(jsonPath("$.totalLikes").value(0));
+
+        //주기적인 반영이 끼어들지 않도록 반영에 사용하는 잠금을 잡은 상태에서 확인
+        synchronized (likeCounter) {
+            //when
+            for (int i = 1; i <= 3; i++) {
+                memberFactory.createMember("likeDelta" + i);
+                mockMvc.perform(post("/likes?postId=" + post.getId())
+                                .with(user("likeDelta" + i))
+                                .with(csrf()))
+                        .andExpect(status().isOk());
+            }
+
+            //then
+            assertEquals(0, postLikeCountRepository.findLikeCount(post.getId()));
+            mockMvc.perform(get("/likes?postId=" + post.getId()))
+                    .andExpect(jsonPath("$.totalLikes").value(3));
+
+            likeCounter.flush();
+        }
+        assertEquals(3, postLikeCountRepository.findLikeCount(post.getId()));
+        mockMvc.perform(get("/likes?postId=" + post.getId()))
+                .andExpect(jsonPath("$.totalLikes").value(3))
+                .andDo(print());
+    }
+
+    @DisplayName("좋아요와 좋아요 취소는 내가 좋아요를 눌렀는지 여부에 바로 반영된다")
+    @Test
+    void test17() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LPI");
+        Member member = memberFactory.createMember("likedPostIndexWriter");
+        Post post = postFactory.createPost(member, board, true);
+        memberFactory.createMember("likedPostIndexMember");
+
+        mockMvc.perform(get("/likes?postId=" + post.getId())
+                        .with(user("likedPostIndexMember")))
+                .andExpect(jsonPath("$.likedPost").value(false));
+
+        //when
+        mockMvc.perform(post("/likes?postId=" + post.getId())
+                        .with(user("likedPostIndexMember"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/likes?postId=" + post.getId())
+                        .with(user("likedPostIndexMember")))
+                .andExpect(jsonPath("$.likedPost").value(true));
+
+        mockMvc.perform(post("/likes?postId=" + post.getId())
+                        .with(user("likedPostIndexMember"))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/likes?postId=" + post.getId())
+                        .with(user("likedPostIndexMember"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/likes?postId=" + post.getId())
+                        .with(user("likedPostIndexMember")))
+                .andExpect(jsonPath("$.likedPost").value(false))
+                .andDo(print());
+    }
+
+    @DisplayName("같은 글에 좋아요 요청이 동시에 여러번 들어와도 한번만 저장된다")
+    @Test
+    void test18() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LUP");
+        Member member = memberFactory.createMember("likeUpsertWriter");
+        Post post = postFactory.createPost(member, board, true);
+        memberFactory.createMember("likeUpsertMember");
+
+        //when
+        int requests = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return mockMvc.perform(post("/likes?postId=" + post.getId())
+                                .with(user("likeUpsertMember"))
+                                .with(csrf()))
+                        .andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Integer> result : results) {
+            int status = result.get();
+            assertTrue(status == 200 || status == 400);
+            succeeded += status == 200 ? 1 : 0;
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(1, succeeded);
+        assertEquals(1, likeRepository.count());
+        mockMvc.perform(get("/likes?postId=" + post.getId())
+                        .with(user("likeUpsertMember")))
+                .andExpect(jsonPath("$.totalLikes").value(1))
+                .andExpect(jsonPath("$.likedPost").value(true));
+    }
+
+    @DisplayName("좋아요 취소 요청이 동시에 여러번 들어와도 한번만 취소된다")
+    @Test
+    void test19() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LCN");
+        Member member = memberFactory.createMember("likeCancelWriter");
+        Post post = postFactory.createPost(member, board, true);
+        Member liker = memberFactory.createMember("likeCancelMember");
+        likeFactory.createLike(post, liker);
+
+        //when
+        int requests = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return mockMvc.perform(delete("/likes?postId=" + post.getId())
+                                .with(user("likeCancelMember"))
+                                .with(csrf()))
+                        .andReturn().getResponse().getStatus();
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Integer> result : results) {
+            int status = result.get();
+            assertTrue(status == 200 || status == 404);
+            succeeded += status == 200 ? 1 : 0;
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(1, succeeded);
+        assertEquals(0, likeRepository.count());
+        mockMvc.perform(get("/likes?postId=" + post.getId()))
+                .andExpect(jsonPath("$.totalLikes").value(0));
+    }
+
+    /**
+     * 여러 글 좋아요 일괄 조회
+     */
+
+    @DisplayName("여러 글의 총 좋아요 수와 내가 좋아요를 눌렀는지 한번에 조회 (없거나 삭제된 글은 제외)")
+    @Test
+    void test20() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LBT");
+        Member member = memberFactory.createMember("likeBatchWriter");
+        Post first = postFactory.createPost(member, board, true);
+        Post second = postFactory.createPost(member, board, true);
+        Post deleted = postFactory.createPost(member, board, true);
+        postRepository.delete(deleted);
+
+        Member liker = memberFactory.createMember("likeBatchMember");
+        likeFactory.createLike(second, liker);
+        IntStream.rangeClosed(1, 3).forEach(i -> {
+            Member factoryMember = memberFactory.createMember("likeBatch" + i);
+            likeFactory.createLike(first, factoryMember);
+        });
+
+        //then
+        mockMvc.perform(get("/likes/batch?postIds=" + first.getId() + "," + second.getId() + ","
+                                + deleted.getId() + ",111111,abc," + first.getId())
+                        .with(user("likeBatchMember")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=5, private"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].postId").value(first.getId()))
+                .andExpect(jsonPath("$[0].totalLikes").value(3))
+                .andExpect(jsonPath("$[0].likedPost").value(false))
+                .andExpect(jsonPath("$[1].postId").value(second.getId()))
+                .andExpect(jsonPath("$[1].totalLikes").value(1))
+                .andExpect(jsonPath("$[1].likedPost").value(true))
+                .andDo(print());
+
+        //로그인하지 않은 경우 모두 좋아요를 누르지 않은 것으로 조회
+        mockMvc.perform(get("/likes/batch?postIds=" + second.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalLikes").value(1))
+                .andExpect(jsonPath("$[0].likedPost").value(false));
+    }
+
+    @DisplayName("여러 글 좋아요 일괄 조회시 글 번호는 필수이고 한번에 100개까지만 조회할수 있다")
+    @Test
+    void test21() throws Exception {
+        mockMvc.perform(get("/likes/batch"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("조회할 글 번호를 입력해주세요."));
+
+        String postIds = IntStream.rangeClosed(1, 101)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+        mockMvc.perform(get("/likes/batch?postIds=" + postIds))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("한번에 100개 이하의 글만 조회할수 있습니다."))
+                .andDo(print());
+    }
+
+    /**
+     * 글 삭제시 좋아요 일괄 삭제
+     */
+
+    @DisplayName("좋아요가 많이 달린 글을 삭제하면 좋아요를 엔티티로 불러오지 않고 DELETE 문으로 나눠서 삭제한다")
+    @Test
+    void test22() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LPG");
+        Member writer = memberFactory.createMember("likePurgeWriter");
+        Post post = postFactory.createPost(writer, board, true);
+        likeFactory.createLikes(post, "likePurgeMember", 2500);
+
+        //좋아요수 카운터와 좋아요 누른 회원의 비트맵을 미리 채워둠
+        mockMvc.perform(get("/likes?postId=" + post.getId())
+                        .with(user("likePurgeMember1")))
+                .andExpect(jsonPath("$.totalLikes").value(2500))
+                .andExpect(jsonPath("$.likedPost").value(true));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        DeleteCaptureConfig.start();
+
+        //when
+        mockMvc.perform(delete("/posts?id={postId}", post.getId())
+                        .with(user("likePurgeWriter"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        //좋아요는 별도의 스레드에서 삭제되므로 맡겨진 삭제가 끝날 때까지 대기
+        likePurger.awaitPurged(10, SECONDS);
+        statistics.setStatisticsEnabled(false);
+        List<Integer> deletedRows = DeleteCaptureConfig.stop();
+
+        //then
+        //좋아요 엔티티를 하나도 불러오지 않음 (JPA 로는 작성자 확인, 글 삭제만 실행하고 좋아요는 JdbcTemplate 으로 삭제)
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        //좋아요는 like.purge.chunk-size(1000) 개씩 DELETE 문 3번으로 삭제
+        assertEquals(List.of(1000, 1000, 500), deletedRows);
+
+        assertEquals(0, likeRepository.findLikeCountByPost(post));
+        assertEquals(0, postLikeCountRepository.findLikeCount(post.getId()));
+        assertEquals(0, likeCounter.get(post.getId()));
+        assertFalse(likedPostIndex.contains("likePurgeMember1", post.getId()));
+    }
+
+    @DisplayName("로그인 정보가 남아있어도 탈퇴, 강퇴된 회원의 좋아요는 중복 좋아요가 아닌 회원 없음으로 응답한다")
+    @Test
+    void test23() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LDM");
+        Member writer = memberFactory.createMember("likeDisabledWriter");
+        Post post = postFactory.createPost(writer, board, true);
+        Member member = memberFactory.createMember("likeDisabledMember");
+        CustomUser principal = new CustomUser(member);
+        memberRepository.delete(member);
+
+        //then
+        mockMvc.perform(post("/likes?postId=" + post.getId())
+                        .with(user(principal))
+                        .with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("사용자를 찾을수 없습니다."))
+                .andDo(print());
+
+        assertEquals(0, likeRepository.findLikeCountByPost(post));
+    }
+
+    @DisplayName("반영되지 못한 증감량으로 어긋난 좋아요수는 좋아요 테이블에서 다시 세어 맞춘다")
+    @Test
+    void test24() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LRE");
+        Member member = memberFactory.createMember("reconcileLikeWriter");
+        Post post = postFactory.createPost(member, board, true);
+        likeFactory.createLikes(post, "likeReconcile", 5);
+        //서버 장애로 증감량이 유실된 경우
+        jdbcTemplate.update("UPDATE post SET like_count = 2 WHERE post_id = ?", post.getId());
+        likeCounter.reconcile(List.of(post.getId()));
+        assertEquals(5, postLikeCountRepository.findLikeCount(post.getId()));
+
+        //when
+        synchronized (likeCounter) {
+            memberFactory.createMember("reconcileLikeMember");
+            mockMvc.perform(post("/likes?postId=" + post.getId())
+                            .with(user("reconcileLikeMember"))
+                            .with(csrf()))
+                    .andExpect(status().isOk());
+            //아직 반영되지 않은 증감량이 있는 글을 다시 세면 반영될 증감량만큼 빼고 저장
+            likeCounter.reconcile(List.of(post.getId()));
+            assertEquals(5, postLikeCountRepository.findLikeCount(post.getId()));
+            likeCounter.flush();
+        }
+
+        //then
+        assertEquals(6, postLikeCountRepository.findLikeCount(post.getId()));
+        assertEquals(6, likeRepository.findLikeCountByPost(post));
+        mockMvc.perform(get("/likes?postId=" + post.getId()))
+                .andExpect(jsonPath("$.totalLikes").value(6))
+                .andDo(print());
+    }
+
+    @DisplayName("보관하는 회원 수를 넘으면 가장 오래전에 확인한 회원의 좋아요 비트맵부터 제거한다")
+    @Test
+    void test25() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LRU");
+        Member writer = memberFactory.createMember("lruWriter");
+        Post post = postFactory.createPost(writer, board, true);
+        likeFactory.createLikes(post, "lruMember", 3);
+        LikedPostIndex index = new LikedPostIndex(likeRepository, 60000, 2);
+
+        //when
+        assertTrue(index.contains("lruMember1", post.getId()));
+        assertTrue(index.contains("lruMember2", post.getId()));
+        //먼저 읽었지만 다시 확인한 회원은 제거되지 않음
+        assertTrue(index.contains("lruMember1", post.getId()));
+        assertTrue(index.contains("lruMember3", post.getId()));
+
+        //then
+        assertEquals(1, index.getStats().getEvictions());
+        assertTrue(index.contains("lruMember1", post.getId()));
+        assertEquals(2, index.getStats().getHits());
+        assertTrue(index.contains("lruMember2", post.getId()));
+        assertEquals(4, index.getStats().getMisses());
+    }
+
+    /**
+     * 좋아요 DELETE 문마다 삭제된 행 수를 기록할수 있도록 DataSource 가 만드는 Connection, PreparedStatement 를 감싸는 설정
+     * 좋아요는 별도의 스레드에서 삭제되므로 스레드와 관계없이 start 와 stop 사이에 실행된 DELETE 문을 기록
+     */
+    @TestConfiguration
+    static class DeleteCaptureConfig {
+
+        //실행된 좋아요 DELETE 문마다 삭제된 행 수 (기록중이 아니면 null)
+        private static volatile List<Integer> deletedRows;
+
+        static void start() {
+            deletedRows = Collections.synchronizedList(new ArrayList<>());
+        }
+
+        static List<Integer> stop() {
+            List<Integer> captured = new ArrayList<>(deletedRows);
+            deletedRows = null;
+            return captured;
+        }
+
+        @Bean
+        static BeanPostProcessor deleteCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? capturing((DataSource) bean) : bean;
+                }
+            };
+        }
+
+        private static DataSource capturing(DataSource dataSource) {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(method, dataSource, args);
+                        return result instanceof Connection ? capturing((Connection) result) : result;
+                    });
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(method, connection, args);
+                        boolean deleteLikes = method.getName().equals("prepareStatement") && ((String) args[0]).startsWith("DELETE FROM likes");
+                        return deleteLikes ? capturing((PreparedStatement) result) : result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(method, statement, args);
+                        List<Integer> captured = deletedRows;
+                        if (method.getName().equals("executeUpdate") && captured != null) {
+                            captured.add((Integer) result);
+                        }
+                        return result;
+                    });
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
 }
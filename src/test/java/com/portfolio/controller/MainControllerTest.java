@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.domain.Comment;
 import com.portfolio.domain.Member;
 import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.request.member.ChangePassword;
 import com.portfolio.request.member.Login;
 import com.portfolio.request.member.SignUp;
 import com.portfolio.service.MemberService;
@@ -16,12 +17,25 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.portfolio.exception.custom.TooManyRequestsException.TOO_MANY_LOGIN_ATTEMPTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -287,4 +301,219 @@ public class MainControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(unauthenticated());
     }
+
+    @DisplayName("아이디와 이메일은 대소문자 구분 없이 로그인할수 있다")
+    @Test
+    void test10() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("caseLogin")
+                .email("CaseLogin@naver.com")
+                .password("password!")
+                .passwordConfirm("password!")
+                .build());
+
+        //then
+        for (String usernameOrEmail : new String[]{"CASELOGIN", "caselogin@NAVER.com"}) {
+            String json = objectMapper.writeValueAsString(Login.builder()
+                    .usernameOrEmail(usernameOrEmail)
+                    .password("password!").build());
+
+            mockMvc.perform(post("/api/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json)
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(authenticated().withUsername("caseLogin"));
+        }
+    }
+
+    @DisplayName("비밀번호를 변경하면 보관중인 로그인 정보가 제거되어 새 비밀번호로만 로그인할수 있다")
+    @Test
+    void test11() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("cachedLogin")
+                .email("cachedLogin@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+        login("cachedLogin", "password1234!")
+                .andExpect(status().isOk());
+
+        //when
+        String json = objectMapper.writeValueAsString(ChangePassword.builder()
+                .currentPassword("password1234!")
+                .newPassword("newpassword12!")
+                .newPasswordConfirm("newpassword12!")
+                .build());
+        mockMvc.perform(patch("/settings/password")
+                        .with(user("cachedLogin").roles("MEMBER"))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk());
+
+        //then
+        login("cachedLogin@naver.com", "password1234!")
+                .andExpect(status().isUnauthorized());
+        login("cachedLogin", "newpassword12!")
+                .andExpect(status().isOk())
+                .andExpect(authenticated().withUsername("cachedLogin"));
+    }
+
+    @DisplayName("한 IP 에서 한 계정에 로그인 시도가 너무 많으면 올바른 비밀번호여도 429 로 응답하고, 다른 IP 에서는 로그인할수 있다")
+    @Test
+    void test12() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("throttledLogin")
+                .email("throttledLogin@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            login("throttledLogin", "wrongpassword1!", "10.0.0.12")
+                    .andExpect(status().isUnauthorized());
+        }
+
+        //then
+        login("THROTTLEDLOGIN", "password1234!", "10.0.0.12")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().string(TOO_MANY_LOGIN_ATTEMPTS))
+                .andExpect(unauthenticated());
+        //다른 IP 에서 비밀번호를 틀리게 입력해도 회원은 로그인할수 있음
+        login("throttledLogin", "password1234!", "10.0.0.16")
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("한 IP 에서 로그인 시도가 너무 많으면 429 로 응답하고, 다른 IP 의 로그인은 처리된다")
+    @Test
+    void test13() throws Exception {
+        //when
+        for (int i = 0; i < 30; i++) {
+            login("throttledIp" + i, "password1234!", "10.0.0.13")
+                    .andExpect(status().isUnauthorized());
+        }
+
+        //then
+        login("throttledIp30", "password1234!", "10.0.0.13")
+                .andExpect(status().isTooManyRequests());
+        login("throttledIp30", "password1234!", "10.0.0.14")
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("보관중인 로그인 정보로 같은 회원이 여러번 로그인할수 있다")
+    @Test
+    void test14() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("repeatedLogin")
+                .email("repeatedLogin@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        //then
+        //로그인 후 지워지는 비밀번호는 로그인마다 새로 만든 CustomUser 의 것이므로 보관된 정보에 남아있음
+        for (int i = 0; i < 3; i++) {
+            login("repeatedLogin", "password1234!")
+                    .andExpect(status().isOk())
+                    .andExpect(authenticated().withUsername("repeatedLogin"));
+        }
+        login("repeatedLogin", "wrongpassword1!")
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("로그인 성공은 시도 횟수에 포함되지 않고, 성공하면 계정의 실패 횟수가 지워진다")
+    @Test
+    void test15() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("resetLogin")
+                .email("resetLogin@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        for (int i = 0; i < 15; i++) {
+            login("resetLogin", "password1234!", "10.0.0.15")
+                    .andExpect(status().isOk());
+        }
+
+        //when
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 9; i++) {
+                login("resetLogin", "wrongpassword1!", "10.0.0.15")
+                        .andExpect(status().isUnauthorized());
+            }
+            login("resetLogin", "password1234!", "10.0.0.15")
+                    .andExpect(status().isOk());
+        }
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            login("resetLogin", "wrongpassword1!", "10.0.0.15")
+                    .andExpect(status().isUnauthorized());
+        }
+        login("resetLogin", "password1234!", "10.0.0.15")
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @DisplayName("한 계정에 동시에 로그인을 시도해도 남은 시도 횟수보다 많이 비밀번호를 비교하지 않는다")
+    @Test
+    void test16() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("concurrentLogin")
+                .email("concurrentLogin@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        List<Future<Integer>> statuses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            statuses.add(executor.submit(() ->
+                    login("concurrentLogin", "wrongpassword1!", "10.0.0.17").andReturn().getResponse().getStatus()));
+        }
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> status : statuses) {
+            results.add(status.get());
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(10, Collections.frequency(results, 401));
+        assertEquals(10, Collections.frequency(results, 429));
+    }
+
+    private ResultActions login(String usernameOrEmail, String password) throws Exception {
+        String json = objectMapper.writeValueAsString(Login.builder()
+                .usernameOrEmail(usernameOrEmail)
+                .password(password).build());
+
+        return mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json)
+                .with(csrf()));
+    }
+
+    private ResultActions login(String usernameOrEmail, String password, String remoteAddr) throws Exception {
+        String json = objectMapper.writeValueAsString(Login.builder()
+                .usernameOrEmail(usernameOrEmail)
+                .password(password).build());
+
+        return mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json)
+                .with(request -> {
+                    request.setRemoteAddr(remoteAddr);
+                    return request;
+                })
+                .with(csrf()));
+    }
 }
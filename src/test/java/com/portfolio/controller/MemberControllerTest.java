@@ -491,5 +491,50 @@ class MemberControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message").value("이미 사용중이거나 탈퇴한 이메일입니다."));
     }
-}
 
+    @DisplayName("회원가입 요청시 대소문자만 다른 아이디, 이메일로 등록할수 없다")
+    @Test
+    void test19() throws Exception {
+        //given
+        memberService.saveNewMember(SignUp.builder()
+                .username("caseMember")
+                .email("caseMember@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        String json = objectMapper.writeValueAsString(SignUp.builder()
+                .username("CASEMEMBER")
+                .email("other@naver.com")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        //then
+        mockMvc.perform(post("/join")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message")
+                        .value("이미 사용중이거나 탈퇴한 아이디입니다."));
+
+        json = objectMapper.writeValueAsString(SignUp.builder()
+                .username("otherMember")
+                .email("CASEMEMBER@NAVER.COM")
+                .password("password1234!")
+                .passwordConfirm("password1234!")
+                .build());
+
+        mockMvc.perform(post("/join")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message")
+                        .value("이미 사용중이거나 탈퇴한 이메일입니다."))
+                .andDo(print());
+
+        assertEquals(1L, memberRepository.countActiveMember());
+    }
+}
@@ -5,21 +5,32 @@ import com.portfolio.controller.factory.*;
 import com.portfolio.domain.Board;
 import com.portfolio.domain.Comment;
 import com.portfolio.domain.Member;
+import com.portfolio.repository.board.BoardPostCountRepository;
+import com.portfolio.repository.board.BoardRegistry;
 import com.portfolio.repository.board.BoardRepository;
 import com.portfolio.repository.comment.CommentRepository;
 import com.portfolio.domain.Post;
 import com.portfolio.repository.like.LikeRepository;
 import com.portfolio.repository.member.MemberRepository;
 import com.portfolio.repository.post.PostRepository;
+import com.portfolio.request.comment.CreateComment;
 import com.portfolio.request.member.SignUp;
 import com.portfolio.request.post.CreatePost;
 import com.portfolio.request.post.EditPost;
+import com.portfolio.security.service.CustomUser;
+import com.portfolio.security.service.RevokedMembers;
+import com.portfolio.service.PostListCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.is;
@@ -47,9 +58,18 @@ public class PostControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private RevokedMembers revokedMembers;
+
     @Autowired
     private BoardRepository boardRepository;
 
+    @Autowired
+    private BoardRegistry boardRegistry;
+
+    @Autowired
+    private BoardPostCountRepository boardPostCountRepository;
+
     @Autowired
     private LikeRepository likeRepository;
 
@@ -71,6 +91,12 @@ public class PostControllerTest {
     @Autowired
     private CommentFactory commentFactory;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostListCache postListCache;
+
     @BeforeEach
     void clear() {
         likeRepository.deleteAll();
@@ -794,6 +820,142 @@ public class PostControllerTest {
                 .andDo(print());
     }
 
+    @DisplayName("특정 게시판의 글 목록을 커서 기반으로 이어서 조회할수 있다")
+    @Test
+    void test2531() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("CURSOR");
+        Member member = memberFactory.createMember("cursorMember");
+        List<Post> posts = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> postFactory.createPost(member, board, true))
+                .collect(Collectors.toList());
+
+        Long nextCursor = posts.get(10).getId();
+
+        //then
+        mockMvc.perform(get("/posts/board/view?board=CURSOR&beforeId=&size=20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(20)))
+                .andExpect(jsonPath("$.content[0].postId").value(posts.get(29).getId()))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+
+        mockMvc.perform(get("/posts/board/view?board=CURSOR&beforeId={cursor}&size=20", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(10)))
+                .andExpect(jsonPath("$.content[0].postId").value(posts.get(9).getId()))
+                .andExpect(jsonPath("$.nextCursor").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+
+    @DisplayName("캐싱된 게시판 글 목록은 글 작성, 댓글 작성 후 다시 조회하면 변경 내용이 반영된다")
+    @Test
+    void test2534() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("CACHE");
+        Member member = memberFactory.createMember("cacheMember");
+        Post post = postFactory.createPost(member, board, true);
+
+        mockMvc.perform(get("/posts/board/view?board=CACHE&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)));
+
+        //when
+        String json = objectMapper.writeValueAsString(CreatePost.builder()
+                .boardName("CACHE")
+                .title("새 글")
+                .content("내용입니다")
+                .commentsAllowed(true)
+                .build());
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(csrf())
+                        .with(user("cacheMember")))
+                .andExpect(status().isOk());
+
+        String commentJson = objectMapper.writeValueAsString(CreateComment.builder()
+                .content("댓글입니다")
+                .postId(post.getId())
+                .build());
+        mockMvc.perform(post("/comments")
+                        .contentType(APPLICATION_JSON)
+                        .content(commentJson)
+                        .with(csrf())
+                        .with(user("cacheMember")))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/posts/board/view?board=CACHE&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$.[0].title").value("새 글"))
+                .andExpect(jsonPath("$.[1].postId").value(post.getId()))
+                .andExpect(jsonPath("$.[1].totalComments").value(1))
+                .andDo(print());
+    }
+
+    @DisplayName("좋아요는 좋아요수를 보여주는 게시판 글 목록 캐시만 제거하고 전체글 목록 캐시는 유지한다")
+    @Test
+    void test2535() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("CACHEL");
+        Member member = memberFactory.createMember("cacheLikeMember");
+        Post post = postFactory.createPost(member, board, true);
+
+        mockMvc.perform(get("/posts/view?page=1")).andExpect(status().isOk());
+        mockMvc.perform(get("/posts/board/view?board=CACHEL&page=1")).andExpect(status().isOk());
+
+        //when
+        mockMvc.perform(post("/likes?postId=" + post.getId())
+                        .with(user("cacheLikeMember"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+        long misses = postListCache.getStats().getMisses();
+
+        //then
+        mockMvc.perform(get("/posts/view?page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].postId").value(post.getId()));
+        assertEquals(misses, postListCache.getStats().getMisses());
+
+        mockMvc.perform(get("/posts/board/view?board=CACHEL&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].totalLikes").value(1))
+                .andDo(print());
+        assertEquals(misses + 1, postListCache.getStats().getMisses());
+    }
+
+    @DisplayName("존재하지 않는 게시판의 글은 커서 기반으로 조회할수 없다")
+    @Test
+    void test2532() throws Exception {
+        mockMvc.perform(get("/posts/board/view?board={boardName}&beforeId=", "1234"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("알수 없는 게시판 이름 입니다"))
+                .andDo(print());
+    }
+
+    @DisplayName("전체글 목록을 커서 기반으로 이어서 조회할수 있다")
+    @Test
+    void test2533() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("CURSORB");
+        Member member = memberFactory.createMember("cursorMemberB");
+        List<Post> posts = IntStream.rangeClosed(1, 25)
+                .mapToObj(i -> postFactory.createPost(member, board, true))
+                .collect(Collectors.toList());
+
+        //then
+        mockMvc.perform(get("/posts/view?beforeId={cursor}&size=10", posts.get(20).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()", is(10)))
+                .andExpect(jsonPath("$.content[0].postId").value(posts.get(19).getId()))
+                .andExpect(jsonPath("$.nextCursor").value(posts.get(10).getId()))
+                .andDo(print());
+    }
+
 
     /** 특정 게시판에 작성된 글 페이징 조회
      *  (댓글이 있는 경우)
@@ -823,6 +985,63 @@ public class PostControllerTest {
                 .andDo(print());
     }
 
+    @DisplayName("특정 게시판에 작성된 글목록 조회시 총 글 수와 총 페이지 수가 응답 헤더로 전달된다")
+    @Test
+    void test12128() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("TOTAL");
+        Member member = memberFactory.createMember("totalMember");
+        List<Post> posts = IntStream.rangeClosed(1, 41)
+                .mapToObj(i -> postFactory.createPost(member, board, true))
+                .collect(Collectors.toList());
+
+        //when
+        mockMvc.perform(delete("/posts?id={postId}", posts.get(0).getId())
+                        .with(user("totalMember"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/posts/board/view?board=TOTAL&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(20)))
+                .andExpect(header().string("X-Total-Count", "40"))
+                .andExpect(header().string("X-Total-Pages", "2"))
+                .andDo(print());
+
+        mockMvc.perform(get("/posts/board/view?board=TOTAL&page=1&size=30"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "40"))
+                .andExpect(header().string("X-Total-Pages", "2"));
+    }
+
+    @DisplayName("캐싱된 글목록 조회시 총 글 수는 DB 를 조회하지 않고 페이지와 함께 캐싱된 값을 응답한다")
+    @Test
+    void test12129() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("TOTALC");
+        Member member = memberFactory.createMember("totalCacheMember");
+        postFactory.createPost(member, board, true);
+
+        mockMvc.perform(get("/posts/board/view?board=TOTALC&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"));
+
+        //when
+        //캐시를 제거하지 않고 게시판 글 수만 증가
+        boardPostCountRepository.increasePostCount(board.getId());
+
+        //then
+        mockMvc.perform(get("/posts/board/view?board=TOTALC&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"));
+
+        //캐싱되지 않는 페이지는 매번 DB 에서 조회
+        mockMvc.perform(get("/posts/board/view?board=TOTALC&page=6"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+    }
+
     @DisplayName("특정 게시판에 작성된 글목록 조회 (댓글과 대댓글 모두 있는 경우)")
     @Test
     void test1212127() throws Exception {
@@ -866,7 +1085,7 @@ public class PostControllerTest {
                 commentFactory.createChildComment(post, member1, parentComment1, "대댓글");
                 commentFactory.createChildComment(post, member2, parentComment2, "대댓글");
 
-                commentRepository.delete(parentComment1);
+                commentFactory.deleteComment(parentComment1);
             });
         });
 
@@ -880,6 +1099,29 @@ public class PostControllerTest {
     }
 
 
+    @DisplayName("특정 게시판에 작성된 글목록 조회시 글마다 좋아요수가 함께 조회된다")
+    @Test
+    void test1212128() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LIKES");
+        Member writer = memberFactory.createMember("likesWriter");
+        Post post = postFactory.createPost(writer, board, true);
+        IntStream.rangeClosed(1, 3).forEach(i ->
+                likeFactory.createLike(post, memberFactory.createMember("likesMember " + i)));
+        postFactory.createPost(writer, board, true);
+
+        //then
+        mockMvc.perform(get("/posts/board/view?board=LIKES&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(2)))
+                .andExpect(jsonPath("$.[0].totalLikes").value(0))
+                .andExpect(jsonPath("$.[0].totalComments").value(0))
+                .andExpect(jsonPath("$.[1].postId").value(post.getId()))
+                .andExpect(jsonPath("$.[1].totalLikes").value(3))
+                .andDo(print());
+    }
+
+
     /**
      * 특정 회원이 작성한 글 목록 조회
      * (글에 댓글이 없는 경우)
@@ -1061,6 +1303,107 @@ public class PostControllerTest {
     }
 
 
+    @DisplayName("특정 회원이 댓글단 글 목록은 글마다 한번만, 최근에 댓글을 단 글부터 20개씩 조회된다")
+    @Test
+    void test11231250() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("COMMENTED");
+        Member writer = memberFactory.createMember("commentedWriter");
+        Member member = memberFactory.createMember("commentedPostsMember");
+        List<Post> posts = IntStream.rangeClosed(1, 25)
+                .mapToObj(i -> postFactory.createPost(writer, board, true))
+                .collect(Collectors.toList());
+        posts.forEach(post -> {
+            commentFactory.createParentComment(post, member, "댓글 1");
+            commentFactory.createParentComment(post, member, "댓글 2");
+        });
+
+        //when
+        commentFactory.createParentComment(posts.get(0), member, "가장 최근 댓글");
+
+        //then
+        mockMvc.perform(get("/member/{username}/commentPosts?page=1", "commentedPostsMember"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(20))
+                .andExpect(jsonPath("$[0].postId").value(posts.get(0).getId()))
+                .andExpect(jsonPath("$[0].writer").value("commentedWriter"))
+                .andExpect(jsonPath("$[0].totalComments").value(3))
+                .andExpect(jsonPath("$[1].postId").value(posts.get(24).getId()))
+                .andDo(print());
+
+        mockMvc.perform(get("/member/{username}/commentPosts?page=2", "commentedPostsMember"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andDo(print());
+    }
+
+    @DisplayName("특정 회원이 댓글단 글 목록을 커서 기반으로 이어서 조회할수 있다")
+    @Test
+    void test11231251() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("COMMENTEDC");
+        Member writer = memberFactory.createMember("commentedWriterC");
+        Member member = memberFactory.createMember("commentedPostsMemberC");
+        List<Post> posts = IntStream.rangeClosed(1, 15)
+                .mapToObj(i -> postFactory.createPost(writer, board, true))
+                .collect(Collectors.toList());
+        List<Comment> comments = posts.stream()
+                .map(post -> commentFactory.createParentComment(post, member, "댓글"))
+                .collect(Collectors.toList());
+
+        //then
+        mockMvc.perform(get("/member/{username}/commentPosts?beforeId=&size=10", "commentedPostsMemberC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(jsonPath("$.content[0].postId").value(posts.get(14).getId()))
+                .andExpect(jsonPath("$.nextCursor").value(comments.get(5).getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+
+        mockMvc.perform(get("/member/{username}/commentPosts?beforeId={cursor}&size=10",
+                        "commentedPostsMemberC", comments.get(5).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].postId").value(posts.get(4).getId()))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+
+    @DisplayName("커서 기반으로 댓글단 글 목록 조회시 이전 페이지에서 조회된 글은 더 앞서 작성한 댓글이 있어도 다시 조회되지 않는다")
+    @Test
+    void test11231252() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("COMMENTEDD");
+        Member writer = memberFactory.createMember("commentedWriterD");
+        Member member = memberFactory.createMember("commentedPostsMemberD");
+        Post postA = postFactory.createPost(writer, board, true);
+        Post postB = postFactory.createPost(writer, board, true);
+        Post postC = postFactory.createPost(writer, board, true);
+        commentFactory.createParentComment(postA, member, "댓글");
+        commentFactory.createParentComment(postB, member, "댓글");
+        Comment commentC = commentFactory.createParentComment(postC, member, "댓글");
+        Comment lastCommentA = commentFactory.createParentComment(postA, member, "댓글");
+
+        //then
+        mockMvc.perform(get("/member/{username}/commentPosts?beforeId=&size=2", "commentedPostsMemberD"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].postId").value(postA.getId()))
+                .andExpect(jsonPath("$.content[0].lastCommentId").value(lastCommentA.getId()))
+                .andExpect(jsonPath("$.content[1].postId").value(postC.getId()))
+                .andExpect(jsonPath("$.nextCursor").value(commentC.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/member/{username}/commentPosts?beforeId={cursor}&size=2",
+                        "commentedPostsMemberD", commentC.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].postId").value(postB.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andDo(print());
+    }
+
+
     /**
      * 내가 좋아요 누른글 목록 조회
      * (댓글 없는 경우)
@@ -1161,6 +1504,34 @@ public class PostControllerTest {
     }
 
 
+    @DisplayName("내가 좋아요 누른글 목록 조회시 작성자, 댓글수가 함께 조회되고 삭제된 글은 조회되지 않는다")
+    @Test
+    void test2541() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("LIKED");
+        Member member = memberFactory.createMember("likeMemberP");
+        Member writer = memberFactory.createMember("likedWriter");
+        Post post = postFactory.createPost(writer, board, true);
+        Post deletedPost = postFactory.createPost(writer, board, true);
+        likeFactory.createLike(post, member);
+        likeFactory.createLike(deletedPost, member);
+        commentFactory.createParentComment(post, member, "댓글");
+
+        //when
+        postRepository.delete(deletedPost);
+
+        //then
+        mockMvc.perform(get("/member/{username}/likes?page=1", "likeMemberP")
+                        .with(user("likeMemberP")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].postId").value(post.getId()))
+                .andExpect(jsonPath("$[0].writer").value("likedWriter"))
+                .andExpect(jsonPath("$[0].totalComments").value(1))
+                .andDo(print());
+    }
+
+
     @DisplayName("내가 좋아요 누른 글이 없다면 빈 ArrayList 가 응답된다")
     @Test
     void test251224() throws Exception {
@@ -1937,4 +2308,121 @@ public class PostControllerTest {
                 .andDo(print());
     }
 
+    /**
+     * 로그인 정보의 회원 번호 사용
+     */
+    @DisplayName("로그인한 회원의 번호로 글을 작성하므로 회원을 조회하지 않고 INSERT 만 실행된다")
+    @Test
+    void test58() throws Exception {
+        //given
+        boardFactory.createBoard("PRF");
+        boardRegistry.reload(); //목록에 없는 게시판의 DB 확인은 이 테스트의 관심사가 아니므로 미리 로딩
+        Member member = memberFactory.createMember("principalWriter");
+        revokedMembers.isRevoked(member.getId()); //탈퇴, 강퇴 여부는 ttl-ms 동안 보관되므로 미리 확인
+
+        String json = objectMapper.writeValueAsString(CreatePost.builder()
+                .boardName("PRF")
+                .title("제목입니다")
+                .content("내용입니다")
+                .build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        //when
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(csrf())
+                        .with(user(new CustomUser(member))))
+                .andExpect(status().isOk());
+        statistics.setStatisticsEnabled(false);
+
+        //then
+        //글 INSERT (게시판 글 수는 JdbcTemplate 으로 board_post_count 에 반영)
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        Post post = postRepository.findAll().get(0);
+        assertEquals(member.getId(), post.getMember().getId());
+        assertEquals(1L, boardPostCountRepository.findPostCount(post.getBoard().getId()));
+    }
+
+    @DisplayName("강퇴된 회원은 로그인 정보가 남아있어도 글을 작성할수 없다")
+    @Test
+    void test59() throws Exception {
+        //given
+        boardFactory.createBoard("PRV");
+        Member member = memberFactory.createMember("revokedWriter");
+        CustomUser principal = new CustomUser(member);
+
+        mockMvc.perform(delete("/admin/members/{username}", "revokedWriter")
+                        .with(user("adminPRV").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        String json = objectMapper.writeValueAsString(CreatePost.builder()
+                .boardName("PRV")
+                .title("제목입니다")
+                .content("내용입니다")
+                .build());
+
+        //then
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(csrf())
+                        .with(user(principal)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("사용자를 찾을수 없습니다."))
+                .andDo(print());
+
+        assertEquals(0L, postRepository.count());
+    }
+
+    @DisplayName("다른 서버에서 강퇴되어 회원 테이블에만 반영된 회원도 로그인 정보가 남아있으면 글을 작성할수 없다")
+    @Test
+    void test591() throws Exception {
+        //given
+        boardFactory.createBoard("PRD");
+        Member member = memberFactory.createMember("revokedElsewhere");
+        CustomUser principal = new CustomUser(member);
+        memberRepository.delete(member);
+
+        String json = objectMapper.writeValueAsString(CreatePost.builder()
+                .boardName("PRD")
+                .title("제목입니다")
+                .content("내용입니다")
+                .build());
+
+        //then
+        mockMvc.perform(post("/posts")
+                        .contentType(APPLICATION_JSON)
+                        .content(json)
+                        .with(csrf())
+                        .with(user(principal)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("사용자를 찾을수 없습니다."))
+                .andDo(print());
+
+        assertEquals(0L, postRepository.count());
+    }
+
+    @DisplayName("다른 서버에서 생성되어 게시판 목록에 없는 게시판도 DB 에서 확인한 뒤 조회된다")
+    @Test
+    void test60() throws Exception {
+        //given (BoardService 를 거치지 않고 저장하므로 게시판 목록은 다시 로딩되지 않음)
+        Board board = boardFactory.createBoard("RMS");
+        Member member = memberFactory.createMember("registryMissWriter");
+        postFactory.createPost(member, board, true);
+
+        //then
+        mockMvc.perform(get("/posts/board/view?board=RMS&page=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].username").value("registryMissWriter"))
+                .andDo(print());
+    }
 }
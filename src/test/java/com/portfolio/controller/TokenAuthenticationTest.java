@@ -0,0 +1,270 @@
+package com.portfolio.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.controller.factory.MemberFactory;
+import com.portfolio.request.member.Login;
+import com.portfolio.request.member.RefreshToken;
+import com.portfolio.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 토큰 방식 로그인 (auth.token.enabled) 테스트
+ * 설정이 다른 ApplicationContext 가 시작될 때 테이블을 다시 만들어 다른 테스트에 영향을 주지 않도록 별도의 메모리 DB 사용
+ */
+@SpringBootTest(properties = {
+        "auth.token.enabled=true",
+        "auth.token.secret=test-secret-for-signed-token-auth-0123456789",
+        "auth.token.revocation-sync-ms=100",
+        "spring.datasource.url=jdbc:h2:mem:tokenauth;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+public class TokenAuthenticationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberFactory memberFactory;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @DisplayName("로그인하면 세션 없이 access, refresh 토큰을 발급하고 access 토큰으로 요청할수 있다")
+    @Test
+    void test1() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember1");
+
+        //when
+        MvcResult result = login("tokenMember1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("tokenMember1"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(900))
+                .andReturn();
+        JsonNode tokens = objectMapper.readTree(result.getResponse().getContentAsString());
+
+        //then
+        assertNull(result.getRequest().getSession(false));
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("tokenMember1"));
+        mockMvc.perform(get("/settings/profile"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("서명이 변경된 토큰이나 refresh 토큰으로는 요청할수 없다")
+    @Test
+    void test2() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember2");
+        JsonNode tokens = tokens(login("tokenMember2"));
+        String accessToken = tokens.get("accessToken").asText();
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        //expected
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + tokens.get("refreshToken").asText()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("refresh 토큰으로 재발급하면 기존 토큰은 폐기되어 다시 사용할수 없다")
+    @Test
+    void test3() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember3");
+        JsonNode tokens = tokens(login("tokenMember3"));
+
+        //when
+        JsonNode refreshed = tokens(refresh(tokens.get("refreshToken").asText())
+                .andExpect(status().isOk()));
+
+        //then
+        refresh(tokens.get("refreshToken").asText())
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + refreshed.get("accessToken").asText()))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("로그아웃하면 access 토큰과 같이 발급된 refresh 토큰이 폐기된다")
+    @Test
+    void test4() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember4");
+        JsonNode tokens = tokens(login("tokenMember4"));
+        String accessToken = tokens.get("accessToken").asText();
+
+        //when
+        mockMvc.perform(post("/logout")
+                        .header(AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+        refresh(tokens.get("refreshToken").asText())
+                .andExpect(status().isUnauthorized());
+        //다른 서버도 알수 있도록 폐기된 토큰 id 가 DB 에 남음
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM revoked_token WHERE token_id = ?", Integer.class, tokenId(accessToken)));
+    }
+
+    @DisplayName("강퇴된 회원의 토큰으로는 요청하거나 재발급할수 없다")
+    @Test
+    void test5() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember5");
+        JsonNode tokens = tokens(login("tokenMember5"));
+
+        //when
+        memberService.unregisterByAdmin("tokenMember5");
+
+        //then
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText()))
+                .andExpect(status().isUnauthorized());
+        refresh(tokens.get("refreshToken").asText())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("재발급한 토큰에는 기존 토큰의 권한이 아닌 DB 의 현재 권한이 담긴다")
+    @Test
+    void test6() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember6");
+        JsonNode tokens = tokens(login("tokenMember6"));
+        mockMvc.perform(get("/admin/cache/posts")
+                        .header(AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText()))
+                .andExpect(status().isForbidden());
+
+        //when
+        jdbcTemplate.update("UPDATE member SET role = 'ROLE_ADMIN' WHERE username = ?", "tokenMember6");
+        JsonNode refreshed = tokens(refresh(tokens.get("refreshToken").asText())
+                .andExpect(status().isOk()));
+
+        //then
+        mockMvc.perform(get("/admin/cache/posts")
+                        .header(AUTHORIZATION, "Bearer " + refreshed.get("accessToken").asText()))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("한 기기에서 재발급하거나 로그아웃해도 같은 회원이 다른 기기에서 발급받은 토큰은 폐기되지 않는다")
+    @Test
+    void test7() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember7");
+        JsonNode first = tokens(login("tokenMember7"));
+        JsonNode second = tokens(login("tokenMember7"));
+
+        //when
+        JsonNode refreshed = tokens(refresh(first.get("refreshToken").asText())
+                .andExpect(status().isOk()));
+        mockMvc.perform(post("/logout")
+                        .header(AUTHORIZATION, "Bearer " + refreshed.get("accessToken").asText()))
+                .andExpect(status().isOk());
+
+        //then
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + refreshed.get("accessToken").asText()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + second.get("accessToken").asText()))
+                .andExpect(status().isOk());
+        refresh(second.get("refreshToken").asText())
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("다른 서버에서 폐기한 토큰은 revocation-sync-ms 안에 거부된다")
+    @Test
+    void test8() throws Exception {
+        //given
+        memberFactory.createMember("tokenMember8");
+        String accessToken = tokens(login("tokenMember8")).get("accessToken").asText();
+        mockMvc.perform(get("/settings/profile")
+                        .header(AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        //when
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update("INSERT INTO revoked_token (token_id, revoked_at, expires_at) VALUES (?, ?, ?)",
+                tokenId(accessToken), now, now + 60000);
+
+        //then
+        int status = 200;
+        for (int i = 0; i < 50 && status == 200; i++) {
+            Thread.sleep(100);
+            status = mockMvc.perform(get("/settings/profile")
+                            .header(AUTHORIZATION, "Bearer " + accessToken))
+                    .andReturn().getResponse().getStatus();
+        }
+        assertEquals(401, status);
+    }
+
+    private ResultActions login(String username) throws Exception {
+        String json = objectMapper.writeValueAsString(Login.builder()
+                .usernameOrEmail(username)
+                .password("password1234!").build());
+
+        return mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        String json = objectMapper.writeValueAsString(RefreshToken.builder()
+                .refreshToken(refreshToken).build());
+
+        return mockMvc.perform(post("/api/token/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+    }
+
+    //토큰 내용 "종류|토큰 id|..." 의 토큰 id
+    private String tokenId(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), UTF_8);
+        return payload.split("\\|")[1];
+    }
+
+    private JsonNode tokens(ResultActions resultActions) throws Exception {
+        return objectMapper.readTree(resultActions.andReturn().getResponse().getContentAsString());
+    }
+}
@@ -4,8 +4,11 @@ import com.portfolio.domain.Comment;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
 import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.post.PostRepository;
+import com.portfolio.service.PostListCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class CommentFactory {
@@ -13,6 +16,13 @@ public class CommentFactory {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    @Transactional
     public Comment createParentComment(Post post, Member member, String content) {
         Comment comment = Comment.builder()
                 .post(post)
@@ -20,10 +30,13 @@ public class CommentFactory {
                 .content(content)
                 .build();
         commentRepository.save(comment);
+        postRepository.increaseCommentCount(post.getId());
+        postListCache.evictPost(post.getId());
 
         return comment;
     }
 
+    @Transactional
     public Comment createChildComment(Post post, Member member, Comment parentComment, String content) {
         Comment comment = Comment.builder()
                 .post(post)
@@ -32,7 +45,21 @@ public class CommentFactory {
                 .content(content)
                 .build();
         commentRepository.save(comment);
+        commentRepository.increaseReplyCount(parentComment.getId());
+        postRepository.increaseCommentCount(post.getId());
+        postListCache.evictPost(post.getId());
 
         return comment;
     }
+
+    /** 댓글 Soft Delete 처리 (CommentService.delete 와 같이 대댓글수, 글의 댓글수를 함께 줄임) */
+    @Transactional
+    public void deleteComment(Comment comment) {
+        commentRepository.softDeleteComment(comment.getId());
+        if (comment.getParent() != null) {
+            commentRepository.decreaseReplyCount(comment.getParent().getId());
+        }
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        postListCache.evictPost(comment.getPost().getId());
+    }
 }
@@ -4,8 +4,20 @@ import com.portfolio.domain.Like;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
 import com.portfolio.repository.like.LikeRepository;
+import com.portfolio.service.LikeCounter;
+import com.portfolio.service.PostListCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.portfolio.domain.MemberRole.ROLE_MEMBER;
 
 @Component
 public class LikeFactory {
@@ -13,6 +25,16 @@ public class LikeFactory {
     @Autowired
     private LikeRepository likeRepository;
 
+    @Autowired
+    private LikeCounter likeCounter;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
     public Like createLike(Post post, Member member) {
 
         Like like = Like.builder()
@@ -21,7 +43,31 @@ public class LikeFactory {
                 .build();
 
         likeRepository.save(like);
+        likeCounter.increaseAfterCommit(post.getId());
+        postListCache.evictPostLikes(post.getId());
 
         return like;
     }
+
+    /** 좋아요가 많이 달린 글을 만들기 위해 회원 count 명과 좋아요를 JDBC 로 한번에 저장 (회원 이름은 usernamePrefix + 번호) */
+    public void createLikes(Post post, String usernamePrefix, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> members = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> new Object[]{usernamePrefix + i, usernamePrefix + i + "@naver.com", ROLE_MEMBER.name(), now, now})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("INSERT INTO member (username, email, password, role, is_enabled, created_at, last_modified_date) " +
+                "VALUES (?, ?, 'password1234!', ?, true, ?, ?)", members);
+        jdbcTemplate.update("INSERT INTO likes (post_id, member_id, created_at, last_modified_date) " +
+                "SELECT ?, member_id, ?, ? FROM member WHERE username LIKE ?", post.getId(), now, now, usernamePrefix + "%");
+        jdbcTemplate.update("UPDATE post SET like_count = like_count + ? WHERE post_id = ?", count, post.getId());
+        postListCache.evictPostLikes(post.getId());
+    }
+
+    @Transactional
+    public void cancelLike(Like like) {
+        likeRepository.delete(like);
+        likeCounter.decreaseAfterCommit(like.getPost().getId());
+        postListCache.evictPostLikes(like.getPost().getId());
+    }
 }
@@ -3,7 +3,9 @@ package com.portfolio.controller.factory;
 import com.portfolio.domain.Board;
 import com.portfolio.domain.Member;
 import com.portfolio.domain.Post;
+import com.portfolio.repository.board.BoardPostCountRepository;
 import com.portfolio.repository.post.PostRepository;
+import com.portfolio.service.PostListCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +15,12 @@ public class PostFactory {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private BoardPostCountRepository boardPostCountRepository;
+
+    @Autowired
+    private PostListCache postListCache;
+
     public Post createPost(Member member, Board board, Boolean commentsAllowed) {
         Post post = Post.builder().title("제목")
                 .content("내용")
@@ -21,6 +29,8 @@ public class PostFactory {
                 .commentsAllowed(commentsAllowed)
                 .build();
         postRepository.save(post);
+        boardPostCountRepository.increasePostCount(board.getId());
+        postListCache.evictBoard(board.getId());
         return post;
     }
 }
@@ -0,0 +1,102 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.Member;
+import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.repository.util.EntityLookup;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 요청 안에서 조회한 엔티티를 재사용하는 EntityLookup 테스트
+ * (테스트 트랜잭션은 끝나면 롤백되므로 저장한 회원은 남지 않음)
+ */
+@SpringBootTest
+@Transactional
+public class EntityLookupTest {
+
+    @Autowired
+    private EntityLookup entityLookup;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Long memberId;
+
+    @BeforeEach
+    void save() {
+        Member member = Member.builder()
+                .username("entityLookupMember")
+                .password("password1234!")
+                .email("entityLookupMember@naver.com")
+                .build();
+        memberId = memberRepository.save(member).getId();
+    }
+
+    @AfterEach
+    void clear() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("같은 요청 안에서는 한번 조회한 엔티티를 다시 조회하지 않고 재사용한다")
+    @Test
+    void test1() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        Member first = entityLookup.get(Member.class, memberId, countingLoader());
+        Member second = entityLookup.get(Member.class, memberId, countingLoader());
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @DisplayName("요청이 다르거나 요청 밖에서 조회하면 매번 조회한다")
+    @Test
+    void test2() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        entityLookup.get(Member.class, memberId, countingLoader());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        entityLookup.get(Member.class, memberId, countingLoader());
+
+        RequestContextHolder.resetRequestAttributes();
+        entityLookup.get(Member.class, memberId, countingLoader());
+
+        assertEquals(3, loads.get());
+    }
+
+    @DisplayName("영속성 컨텍스트에서 분리된 엔티티는 재사용하지 않고 다시 조회한다")
+    @Test
+    void test3() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Member first = entityLookup.get(Member.class, memberId, countingLoader());
+
+        entityManager.detach(first);
+        Member second = entityLookup.get(Member.class, memberId, countingLoader());
+
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+    }
+
+    private Function<Long, Member> countingLoader() {
+        return id -> {
+            loads.incrementAndGet();
+            return memberRepository.findById(id).orElse(null);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.portfolio.repository;
+
+import com.portfolio.controller.factory.BoardFactory;
+import com.portfolio.controller.factory.MemberFactory;
+import com.portfolio.domain.Board;
+import com.portfolio.domain.Member;
+import com.portfolio.domain.Post;
+import com.portfolio.repository.like.LikeUpsertRepository;
+import com.portfolio.repository.post.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * H2 에서의 좋아요 저장, 삭제 (LikeUpsertRepository 는 H2 에서 INSERT ... ON CONFLICT 대신 NOT EXISTS 조건으로 저장)
+ * 다른 테스트에 영향을 주지 않도록 별도의 메모리 DB 사용 (테스트 트랜잭션은 끝나면 롤백됨)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:likeupsert;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=never"
+})
+@Transactional
+public class LikeUpsertRepositoryTest {
+
+    @Autowired
+    private LikeUpsertRepository likeUpsertRepository;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private MemberFactory memberFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @DisplayName("H2 에서도 같은 글에 좋아요는 한번만 저장되고, 누른 좋아요만 삭제된다")
+    @Test
+    void test1() {
+        //given
+        Board board = boardFactory.createBoard("likeUpsert");
+        Member member = memberFactory.createMember("likeUpsertMember");
+        Post post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .member(member)
+                .board(board)
+                .commentsAllowed(true)
+                .build());
+
+        //then
+        assertTrue(likeUpsertRepository.insertIfAbsent(post.getId(), member.getId()));
+        assertFalse(likeUpsertRepository.insertIfAbsent(post.getId(), member.getId()));
+        assertFalse(likeUpsertRepository.insertIfAbsent(987654321L, member.getId()));
+
+        assertTrue(likeUpsertRepository.deleteIfPresent(post.getId(), member.getId()));
+        assertFalse(likeUpsertRepository.deleteIfPresent(post.getId(), member.getId()));
+    }
+}
@@ -0,0 +1,282 @@
+package com.portfolio.repository;
+
+import com.portfolio.domain.Member;
+import com.portfolio.domain.Post;
+import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.like.LikeRepository;
+import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.repository.post.PostRepository;
+import com.portfolio.request.post.SearchPostsByBoard;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 리포지토리 쿼리가 인덱스를 사용하는지 확인하는 테스트
+ * 별도 스키마(query_plan)에 충분한 양의 데이터를 넣고, 리포지토리 메서드를 실행해 Hibernate 가 생성한 SQL 과 파라미터를
+ * 그대로 EXPLAIN 하여 큰 테이블에 Seq Scan 이 없는지 확인
+ * (PostgreSQL 에서만 실행, 행 수가 적은 board 테이블은 확인하지 않음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.schema=" + QueryPlanTest.SCHEMA,
+        "spring.datasource.hikari.connection-init-sql=CREATE SCHEMA IF NOT EXISTS " + QueryPlanTest.SCHEMA
+})
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryPlanTest {
+
+    static final String SCHEMA = "query_plan";
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (post|comment|likes|member)\\b");
+
+    //현재 스레드에서 실행된 SELECT 문 (기록중이 아니면 null)
+    private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private boolean seeded = false;
+
+    private Long boardId;
+    private Long memberId;
+    private String username;
+    private Long postId;
+    private Long parentId;
+
+    @BeforeAll
+    void seed() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assumeTrue("PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        seeded = true;
+
+        jdbcTemplate.execute("INSERT INTO member (username, email, password, role, is_enabled, created_at, last_modified_date) " +
+                "SELECT 'plan_' || i, 'plan_' || i || '@naver.com', 'password', 'ROLE_MEMBER', i % 20 <> 0, now(), now() " +
+                "FROM generate_series(1, 20000) i");
+        jdbcTemplate.execute("INSERT INTO board (board_name, nickname, is_enabled, created_at, last_modified_date) " +
+                "SELECT 'plan_' || i, '계획 게시판 ' || i, true, now(), now() FROM generate_series(1, 50) i");
+        jdbcTemplate.execute("INSERT INTO post (title, content, member_id, board_id, comments_allowed, is_enabled, " +
+                "comment_count, like_count, created_at, last_modified_date) " +
+                "SELECT '제목', '내용', i % 20000 + 1, i % 50 + 1, true, i % 10 <> 0, 0, 0, now(), now() " +
+                "FROM generate_series(1, 50000) i");
+        jdbcTemplate.execute("INSERT INTO comment (post_id, content, member_id, parent_id, is_enabled, reply_count, created_at, last_modified_date) " +
+                "SELECT i % 50000 + 1, '댓글', i % 20000 + 1, null, i % 10 <> 0, 0, now(), now() " +
+                "FROM generate_series(1, 200000) i");
+        jdbcTemplate.execute("INSERT INTO comment (post_id, content, member_id, parent_id, is_enabled, reply_count, created_at, last_modified_date) " +
+                "SELECT post_id, '대댓글', member_id, comment_id, true, 0, now(), now() FROM comment WHERE comment_id % 10 = 1");
+        jdbcTemplate.execute("UPDATE comment SET reply_count = 1 WHERE comment_id IN (SELECT parent_id FROM comment WHERE parent_id IS NOT NULL)");
+        jdbcTemplate.execute("INSERT INTO likes (post_id, member_id, created_at, last_modified_date) " +
+                "SELECT i % 50000 + 1, (i * 7) % 20000 + 1, now(), now() FROM generate_series(1, 50000) i");
+        jdbcTemplate.execute("ANALYZE");
+
+        boardId = jdbcTemplate.queryForObject("SELECT min(board_id) + 1 FROM board", Long.class);
+        memberId = jdbcTemplate.queryForObject("SELECT min(member_id) + 1 FROM member", Long.class);
+        username = jdbcTemplate.queryForObject("SELECT username FROM member WHERE member_id = ?", String.class, memberId);
+        postId = jdbcTemplate.queryForObject("SELECT min(post_id) FROM post WHERE board_id = ? AND is_enabled = true",
+                Long.class, boardId);
+        parentId = jdbcTemplate.queryForObject("SELECT min(parent_id) FROM comment", Long.class);
+    }
+
+    @AfterAll
+    void clear() {
+        if (seeded) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    @BeforeEach
+    void login() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    @AfterEach
+    void logout() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("글 조회 쿼리는 큰 테이블을 Seq Scan 하지 않는다")
+    @Test
+    void test1() {
+        Member member = memberRepository.getReferenceById(memberId);
+        Long lastCommentId = jdbcTemplate.queryForObject("SELECT max(comment_id) FROM comment WHERE member_id = ?", Long.class, memberId);
+
+        assertNoSeqScan("PostRepositoryImpl.findPostsByBoard",
+                () -> postRepository.findPostsByBoard(boardId, new SearchPostsByBoard("plan_2", "6", "20", null)));
+        assertNoSeqScan("PostRepositoryImpl.findPostsByBoardBefore",
+                () -> postRepository.findPostsByBoardBefore(boardId, new SearchPostsByBoard("plan_2", "1", "20", String.valueOf(postId + 5000))));
+        assertNoSeqScan("PostRepositoryImpl.findPostsByMember", () -> postRepository.findPostsByMember(member, 1));
+        assertNoSeqScan("PostRepositoryImpl.findPostCountByMember", () -> postRepository.findPostCountByMember(member));
+        assertNoSeqScan("PostRepositoryImpl.findAllPosts", () -> postRepository.findAllPosts(3));
+        assertNoSeqScan("PostRepositoryImpl.findAllPostsBefore", () -> postRepository.findAllPostsBefore(postId + 5000, 20));
+        assertNoSeqScan("PostRepositoryImpl.findMyLikedPosts", () -> postRepository.findMyLikedPosts(1));
+        assertNoSeqScan("PostRepositoryImpl.findPostsCommentedMyMember", () -> postRepository.findPostsCommentedMyMember(member, 1));
+        assertNoSeqScan("PostRepositoryImpl.findPostsCommentedByMemberBefore",
+                () -> postRepository.findPostsCommentedByMemberBefore(member, lastCommentId, 5));
+    }
+
+    @DisplayName("댓글, 좋아요, 회원 조회 쿼리는 큰 테이블을 Seq Scan 하지 않는다")
+    @Test
+    void test2() {
+        Member member = memberRepository.getReferenceById(memberId);
+        Post post = postRepository.getReferenceById(postId);
+
+        assertNoSeqScan("CommentRepositoryImpl.findMyComments", () -> commentRepository.findMyComments(1, member));
+        assertNoSeqScan("CommentRepositoryImpl.findCommentCountByMember", () -> commentRepository.findCommentCountByMember(member));
+        assertNoSeqScan("CommentRepositoryImpl.findCommentsInPost", () -> commentRepository.findCommentsInPost(post, 1));
+        assertNoSeqScan("CommentRepositoryImpl.findCommentsInPostAfter", () -> commentRepository.findCommentsInPostAfter(post, 0L, 20));
+        assertNoSeqScan("CommentRepositoryImpl.findFirstChildComments",
+                () -> commentRepository.findFirstChildComments(List.of(parentId), 10));
+        assertNoSeqScan("CommentRepositoryImpl.findChildCommentsAfter",
+                () -> commentRepository.findChildCommentsAfter(parentId, 0L, 20));
+        assertNoSeqScan("CommentRepositoryImpl.findEnabledCommentCountInPost",
+                () -> commentRepository.findEnabledCommentCountInPost(post));
+        assertNoSeqScan("LikeRepositoryImpl.findLikeCountByPost", () -> likeRepository.findLikeCountByPost(post));
+        assertNoSeqScan("LikeRepositoryImpl.pressedLikeOnThisPost", () -> likeRepository.pressedLikeOnThisPost(post));
+        assertNoSeqScan("LikeRepositoryImpl.findLikedPostIds", () -> likeRepository.findLikedPostIds(username));
+        assertNoSeqScan("MemberRepositoryImpl.findActiveMemberByUsername", () -> memberRepository.findActiveMemberByUsername(username));
+        assertNoSeqScan("MemberRepositoryImpl.findByUsernameOrEmail",
+                () -> memberRepository.findByUsernameOrEmail(username + "@naver.com"));
+        assertNoSeqScan("MemberRepositoryImpl.findMemberList", () -> memberRepository.findMemberList(3));
+    }
+
+    //query 를 실행하는 동안 생성된 SELECT 문을 모두 같은 파라미터로 EXPLAIN 하여 Seq Scan 이 없는지 확인
+    private void assertNoSeqScan(String name, Runnable query) {
+        List<CapturedQuery> queries = new ArrayList<>();
+        CAPTURED.set(queries);
+        try {
+            transactionTemplate.executeWithoutResult(status -> query.run());
+        } finally {
+            CAPTURED.remove();
+        }
+
+        assertFalse(queries.isEmpty(), name + " 실행시 조회된 SQL 이 없습니다");
+        for (CapturedQuery captured : queries) {
+            List<String> plan = jdbcTemplate.query("EXPLAIN " + captured.sql,
+                    ps -> {
+                        for (Map.Entry<Integer, Object> param : captured.params.entrySet()) {
+                            if (param.getValue() == null) {
+                                ps.setNull(param.getKey(), Types.NULL);
+                            } else {
+                                ps.setObject(param.getKey(), param.getValue());
+                            }
+                        }
+                    },
+                    (rs, rowNum) -> rs.getString(1));
+            boolean seqScan = plan.stream().anyMatch(line -> SEQ_SCAN.matcher(line).find());
+            assertFalse(seqScan, name + " 쿼리가 Seq Scan 을 사용합니다\n" + captured.sql + "\n" + String.join("\n", plan));
+        }
+    }
+
+    //Hibernate 가 실행한 SELECT 문 하나와 바인딩된 파라미터 (파라미터 순번 -> 값)
+    private static class CapturedQuery {
+
+        private final String sql;
+        private final Map<Integer, Object> params;
+
+        private CapturedQuery(String sql, Map<Integer, Object> params) {
+            this.sql = sql;
+            this.params = params;
+        }
+    }
+
+    /** 실행되는 SQL 과 파라미터를 기록할수 있도록 DataSource 가 만드는 Connection, PreparedStatement 를 감싸는 설정 */
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? capturing((DataSource) bean) : bean;
+                }
+            };
+        }
+
+        private static DataSource capturing(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result, args) ->
+                    result instanceof Connection ? capturing((Connection) result) : result);
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (method, result, args) ->
+                    method.getName().equals("prepareStatement") ? capturing((PreparedStatement) result, (String) args[0]) : result);
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            params.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                        } else if (name.equals("clearParameters")) {
+                            params.clear();
+                        } else if (name.equals("executeQuery") && CAPTURED.get() != null) {
+                            CAPTURED.get().add(new CapturedQuery(sql, new TreeMap<>(params)));
+                        }
+                        return invoke(method, statement, args);
+                    });
+        }
+
+        private interface ResultMapper {
+            Object map(Method method, Object result, Object[] args);
+        }
+
+        //target 의 메서드를 그대로 호출하고 결과만 mapper 로 바꾸는 프록시
+        private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> mapper.map(method, invoke(method, target, args), args)));
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
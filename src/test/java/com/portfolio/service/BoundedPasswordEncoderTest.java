@@ -0,0 +1,114 @@
+package com.portfolio.service;
+
+import com.portfolio.exception.custom.ServiceUnavailableException;
+import com.portfolio.security.service.BoundedPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비밀번호 암호화, 비교를 전용 스레드에서 처리하는 BoundedPasswordEncoder 테스트
+ */
+public class BoundedPasswordEncoderTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void afterEach() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @DisplayName("BCrypt 로 암호화하고 비교한다")
+    @Test
+    void test1() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, 1000);
+
+        String encoded = encoder.encode("password1234!");
+
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("password1234!", encoded));
+        assertFalse(encoder.matches("wrongpassword1!", encoded));
+    }
+
+    @DisplayName("대기열이 가득 차면 계산하지 않고 바로 ServiceUnavailableException 이 발생한다")
+    @Test
+    void test2() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 10000);
+
+        //스레드 하나는 계산중, 하나는 대기열에서 대기
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertTrue(started.await(5, SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        waitUntilQueued(queued);
+
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+                () -> encoder.encode("third"));
+        assertEquals(ServiceUnavailableException.PASSWORD_HASH_BUSY, e.getMessage());
+
+        release.countDown();
+        assertEquals("first", running.get(5, SECONDS));
+        assertEquals("second", queued.get(5, SECONDS));
+    }
+
+    @DisplayName("대기열에서 max-queue-ms 보다 오래 기다린 요청은 계산하지 않는다")
+    @Test
+    void test3() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 10, 50);
+
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertTrue(started.await(5, SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+
+        Thread.sleep(200);
+        release.countDown();
+
+        assertEquals("first", running.get(5, SECONDS));
+        Exception e = assertThrows(Exception.class, () -> queued.get(5, SECONDS));
+        assertInstanceOf(ServiceUnavailableException.class, e.getCause());
+    }
+
+    //release 될 때까지 계산이 끝나지 않는 PasswordEncoder (입력값을 그대로 반환)
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    //두번째 요청이 대기열에 들어갈 때까지 잠깐 기다림
+    private void waitUntilQueued(Future<?> future) throws InterruptedException {
+        Thread.sleep(100);
+        assertFalse(future.isDone());
+    }
+}
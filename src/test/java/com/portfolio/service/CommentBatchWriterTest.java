@@ -0,0 +1,243 @@
+package com.portfolio.service;
+
+import com.portfolio.controller.factory.BoardFactory;
+import com.portfolio.controller.factory.MemberFactory;
+import com.portfolio.controller.factory.PostFactory;
+import com.portfolio.domain.Board;
+import com.portfolio.domain.Member;
+import com.portfolio.domain.Post;
+import com.portfolio.exception.custom.ServiceUnavailableException;
+import com.portfolio.repository.board.BoardRepository;
+import com.portfolio.repository.comment.CommentBatchRepository;
+import com.portfolio.repository.comment.CommentRepository;
+import com.portfolio.repository.member.MemberRepository;
+import com.portfolio.repository.post.PostRepository;
+import com.portfolio.repository.util.MemberUtil;
+import com.portfolio.request.comment.CreateComment;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글 작성 요청을 모아서 저장하는 CommentBatchWriter 테스트
+ * (comment.write-batch.enabled 설정과 상관없이 테스트용 CommentBatchWriter 를 직접 생성해 사용)
+ */
+@SpringBootTest
+public class CommentBatchWriterTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CommentBatchRepository commentBatchRepository;
+
+    @Autowired
+    private MemberUtil memberUtil;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    @Autowired
+    private CommentStream commentStream;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberFactory memberFactory;
+
+    @Autowired
+    private BoardFactory boardFactory;
+
+    @Autowired
+    private PostFactory postFactory;
+
+    private CommentBatchWriter commentBatchWriter;
+
+    @BeforeEach
+    void clear() {
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+        boardRepository.deleteAll();
+
+        commentBatchWriter = new CommentBatchWriter(commentBatchRepository, memberUtil, postListCache, commentStream,
+                true, 100, 5, 10000);
+        commentBatchWriter.start();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        commentBatchWriter.stop();
+    }
+
+    @DisplayName("동시에 작성된 댓글들이 모아서 저장되고, 요청마다 자신의 댓글 번호를 받는다")
+    @Test
+    void test1() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("batchWrite");
+        Member member = memberFactory.createMember("batchWriteMember");
+        Post post = postFactory.createPost(member, board, true);
+
+        //when
+        List<Long> ids = writeConcurrently(member.getUsername(), post.getId(), 20,
+                request -> commentBatchWriter.write(request));
+
+        //then
+        assertEquals(THREADS * 20, new HashSet<>(ids).size());
+        assertEquals(THREADS * 20, commentRepository.countActiveComments());
+        assertEquals(THREADS * 20, postRepository.findById(post.getId()).get().getCommentCount());
+        assertEquals("batchWriteMember", commentRepository.findWithMemberAndPostById(ids.get(0)).getMember().getUsername());
+    }
+
+    @DisplayName("모아서 저장하던 댓글 중 하나가 실패하면 해당 요청만 예외를 받는다")
+    @Test
+    void test2() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("batchFail");
+        Member member = memberFactory.createMember("batchFailMember");
+        Post post = postFactory.createPost(member, board, true);
+
+        //when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> failed = executor.submit(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(member.getUsername(), null, List.of()));
+            return commentBatchWriter.write(CreateComment.builder().postId(987654321L).content("없는 글").build());
+        });
+        List<Long> ids = writeConcurrently(member.getUsername(), post.getId(), 5,
+                request -> commentBatchWriter.write(request));
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(DataIntegrityViolationException.class, e.getCause());
+        executor.shutdown();
+
+        assertEquals(THREADS * 5, new HashSet<>(ids).size());
+        assertEquals(THREADS * 5, commentRepository.countActiveComments());
+        assertEquals(THREADS * 5, postRepository.findById(post.getId()).get().getCommentCount());
+    }
+
+    @DisplayName("제시간에 저장되지 않아 예외를 받은 댓글은 대기열에서 빠져 나중에 저장되지 않는다")
+    @Test
+    void test3() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("batchTimeout");
+        Member member = memberFactory.createMember("batchTimeoutMember");
+        Post post = postFactory.createPost(member, board, true);
+        CommentBatchWriter stalled = new CommentBatchWriter(commentBatchRepository, memberUtil, postListCache, commentStream,
+                true, 100, 5, 10000);
+
+        //when
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(member.getUsername(), null, List.of()));
+        try {
+            assertThrows(ServiceUnavailableException.class, () ->
+                    stalled.write(CreateComment.builder().postId(post.getId()).content("늦은 댓글").build()));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        stalled.start();
+        stalled.stop();
+
+        //then
+        assertEquals(0, commentRepository.countActiveComments());
+        assertEquals(0, postRepository.findById(post.getId()).get().getCommentCount());
+    }
+
+    /**
+     * 댓글 작성 처리량 비교 (초당 저장된 댓글 수, 모아서 저장하는 방식이 더 많이 저장해야 함)
+     * mvn test -Dtest=CommentBatchWriterTest -Dbenchmark=true 로 실행
+     */
+    @DisplayName("기존 작성 방식과 모아서 저장하는 방식의 처리량 비교")
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark() throws Exception {
+        //given
+        Board board = boardFactory.createBoard("batchBench");
+        Member member = memberFactory.createMember("batchBenchMember");
+        Post post = postFactory.createPost(member, board, true);
+        int perThread = 500;
+
+        //warm up
+        writeConcurrently(member.getUsername(), post.getId(), 50, this::writeOne);
+        writeConcurrently(member.getUsername(), post.getId(), 50, request -> commentBatchWriter.write(request));
+
+        //when
+        long start = System.nanoTime();
+        writeConcurrently(member.getUsername(), post.getId(), perThread, this::writeOne);
+        double single = THREADS * perThread / ((System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        writeConcurrently(member.getUsername(), post.getId(), perThread, request -> commentBatchWriter.write(request));
+        double batched = THREADS * perThread / ((System.nanoTime() - start) / 1e9);
+
+        //then
+        assertEquals(THREADS * (perThread + 50) * 2, commentRepository.countActiveComments());
+        assertTrue(batched > single, String.format("CommentService.writeComment: %.0f/s, CommentBatchWriter: %.0f/s", single, batched));
+    }
+
+    private Long writeOne(CreateComment request) {
+        commentService.writeComment(request);
+        return 0L;
+    }
+
+    //THREADS 개의 스레드에서 같은 회원으로 count 개씩 댓글 작성
+    private List<Long> writeConcurrently(String username, Long postId, int count,
+                                         Function<CreateComment, Long> writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<List<Long>>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tasks.add(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new UsernamePasswordAuthenticationToken(username, null, List.of()));
+                    try {
+                        List<Long> ids = new ArrayList<>();
+                        for (int i = 0; i < count; i++) {
+                            ids.add(writer.apply(CreateComment.builder().postId(postId).content("댓글 " + i).build()));
+                        }
+                        return ids;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                });
+            }
+
+            List<Long> ids = new ArrayList<>();
+            for (Future<List<Long>> future : executor.invokeAll(tasks)) {
+                ids.addAll(future.get());
+            }
+            return ids;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
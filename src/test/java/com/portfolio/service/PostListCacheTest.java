@@ -0,0 +1,54 @@
+package com.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.portfolio.response.post.PostResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 글 목록 앞쪽 페이지의 응답을 보관하는 PostListCache 테스트
+ */
+public class PostListCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @DisplayName("ttl-ms 안에 다시 조회하면 보관된 페이지를 응답한다")
+    @Test
+    void test1() {
+        PostListCache cache = new PostListCache(objectMapper, 60000);
+
+        cache.getAllPosts(1, this::load, () -> 1L);
+        cache.getAllPosts(1, this::load, () -> 1L);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getHits());
+    }
+
+    @DisplayName("ttl-ms 가 지난 페이지는 다른 서버의 변경이 반영되도록 다시 조회한다")
+    @Test
+    void test2() throws Exception {
+        PostListCache cache = new PostListCache(objectMapper, 10);
+
+        cache.getAllPosts(1, this::load, () -> 1L);
+        Thread.sleep(20);
+        cache.getAllPosts(1, this::load, () -> 1L);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.getStats().getHits());
+        assertEquals(2, cache.getStats().getMisses());
+    }
+
+    private List<PostResponse> load() {
+        loads.incrementAndGet();
+        return List.of(new PostResponse(1L, "자유게시판", "제목", 0, "writer", LocalDateTime.now()));
+    }
+}